@@ -0,0 +1,48 @@
+package com.artbridge.artist.benchmark;
+
+import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.application.mapper.ArtistMapper;
+import com.artbridge.artist.application.mapper.ArtistMapperImpl;
+import com.artbridge.artist.domain.model.Artist;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 조회 API 마다 수행되는 {@link ArtistMapper} 변환 비용.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtistMapperBenchmark {
+
+    @Param({ "1", "20" })
+    private int pageSize;
+
+    private final ArtistMapper artistMapper = new ArtistMapperImpl();
+
+    private List<Artist> artists;
+
+    private List<ArtistDTO> artistDTOs;
+
+    @Setup
+    public void setUp() {
+        artists = LongStream.rangeClosed(1, pageSize).mapToObj(BenchmarkFixtures::artist).collect(Collectors.toList());
+        artistDTOs = LongStream.rangeClosed(1, pageSize).mapToObj(BenchmarkFixtures::artistDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<ArtistDTO> toDto() {
+        return artistMapper.toDto(artists);
+    }
+
+    @Benchmark
+    public List<Artist> toEntity() {
+        return artistMapper.toEntity(artistDTOs);
+    }
+}
@@ -0,0 +1,54 @@
+package com.artbridge.artist.benchmark;
+
+import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.infrastructure.configuration.JacksonConfiguration;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 목록 API 응답인 {@code List<ArtistDTO>} 페이지의 JSON 직렬화 비용.
+ * <p>
+ * ObjectMapper 는 {@link JacksonConfiguration} 의 모듈로 Spring Boot 와 같은 방식으로 만듭니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArtistPageSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectWriter pageWriter;
+
+    private List<ArtistDTO> page;
+
+    @Setup
+    public void setUp() {
+        JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder
+            .json()
+            .modules(
+                jacksonConfiguration.javaTimeModule(),
+                jacksonConfiguration.jdk8TimeModule(),
+                jacksonConfiguration.hibernate5Module()
+            )
+            .build();
+        pageWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ArtistDTO.class));
+        page = LongStream.rangeClosed(1, pageSize).mapToObj(BenchmarkFixtures::artistDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+}
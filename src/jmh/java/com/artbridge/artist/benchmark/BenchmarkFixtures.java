@@ -0,0 +1,94 @@
+package com.artbridge.artist.benchmark;
+
+import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.application.dto.ArtworkDTO;
+import com.artbridge.artist.application.dto.MemberDTO;
+import com.artbridge.artist.domain.model.Artist;
+import com.artbridge.artist.domain.standardType.Status;
+import com.artbridge.artist.domain.vo.Artwork;
+import com.artbridge.artist.domain.vo.Member;
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+
+/**
+ * 벤치마크에서 공유하는 실제 크기에 가까운 아티스트 payload.
+ */
+final class BenchmarkFixtures {
+
+    static final String INFO =
+        "서울을 기반으로 활동하는 회화 작가입니다. 도시의 빛과 그림자를 주제로 유화와 혼합 매체 작업을 이어 오고 있으며, " +
+        "최근에는 재개발 지역의 기억을 기록하는 연작을 발표했습니다. 개인전 6회, 단체전 20여 회에 참여했습니다.";
+
+    static final String CAREER =
+        "2015 홍익대학교 회화과 졸업\n2018 개인전 「골목의 시간」, 서울\n2020 단체전 「도시 풍경」, 부산\n" +
+        "2022 레지던시 프로그램 참여, 베를린\n2024 개인전 「남겨진 창」, 서울";
+
+    private static final String STORAGE_URL = "https://storage.googleapis.com/artbridge/";
+
+    private static final ApplicationProperties.ImageDerivative DERIVATIVE = new ApplicationProperties.ImageDerivative();
+
+    private BenchmarkFixtures() {}
+
+    static Artist artist(long id) {
+        Member member = new Member();
+        member.setId(1000L + id);
+        member.setLogin("member" + id);
+        member.setName("회원" + id);
+
+        Artwork artwork = new Artwork();
+        artwork.setTitle("남겨진 창 #" + id);
+
+        Artist artist = new Artist()
+            .id(id)
+            .name("아티스트 " + id)
+            .realName("김작가" + id)
+            .imgUrl(imgUrl(id))
+            .imgThumbnailUrl(derivativeUrl(id, DERIVATIVE.getThumbnailWidth()))
+            .imgMediumUrl(derivativeUrl(id, DERIVATIVE.getMediumWidth()))
+            .phone("010-1234-5678")
+            .career(CAREER)
+            .voArtwork(artwork)
+            .member(member)
+            .status(Status.OK);
+        artist.setInfo(INFO);
+        artist.setLikeCount(id * 7);
+        return artist;
+    }
+
+    static ArtistDTO artistDTO(long id) {
+        ArtworkDTO artworkDTO = new ArtworkDTO();
+        artworkDTO.setTitle("남겨진 창 #" + id);
+
+        ArtistDTO artistDTO = new ArtistDTO();
+        artistDTO.setId(id);
+        artistDTO.setName("아티스트 " + id);
+        artistDTO.setInfo(INFO);
+        artistDTO.setRealName("김작가" + id);
+        artistDTO.setImgUrl(imgUrl(id));
+        artistDTO.setImgThumbnailUrl(derivativeUrl(id, DERIVATIVE.getThumbnailWidth()));
+        artistDTO.setImgMediumUrl(derivativeUrl(id, DERIVATIVE.getMediumWidth()));
+        artistDTO.setPhone("010-1234-5678");
+        artistDTO.setCareer(CAREER);
+        artistDTO.setArtworkDTO(artworkDTO);
+        artistDTO.setMemberDTO(new MemberDTO(1000L + id, "member" + id, "회원" + id));
+        artistDTO.setStatus(Status.OK);
+        return artistDTO;
+    }
+
+    /**
+     * 원본은 digest.형식 으로 저장되므로 id 로 만든 64자리 hex 를 digest 로 씁니다.
+     */
+    private static String digest(long id) {
+        return String.format("%064x", id);
+    }
+
+    private static String imgUrl(long id) {
+        return STORAGE_URL + digest(id) + ".jpg";
+    }
+
+    /**
+     * 파생 이미지는 ImageDerivativeServiceImpl 과 같이 digest_w가로크기.jpg 로 이름을 붙입니다.
+     */
+    private static String derivativeUrl(long id, int width) {
+        return STORAGE_URL + digest(id) + "_w" + width + ".jpg";
+    }
+}
@@ -0,0 +1,73 @@
+package com.artbridge.artist.benchmark;
+
+import com.artbridge.artist.application.service.MemberService;
+import com.artbridge.artist.infrastructure.management.MemberConsumerMetersService;
+import com.artbridge.artist.infrastructure.messaging.MemberConsumer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * {@link MemberConsumer} 가 한 번의 poll 로 받은 member-name 레코드를 파싱하고 회원별로 합치는 비용.
+ * <p>
+ * DB 반영 비용을 빼기 위해 {@link MemberService} 는 아무것도 하지 않는 구현을 사용합니다.
+ * 레코드의 1% 는 잘못된 JSON 이고, 회원 한 명당 평균 두 번씩 이름이 바뀝니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberConsumerBenchmark {
+
+    private static final String TOPIC = "member-name";
+
+    @Param({ "50", "500" })
+    private int batchSize;
+
+    private MemberConsumer memberConsumer;
+
+    private MockConsumer<String, String> consumer;
+
+    private List<ConsumerRecord<String, String>> records;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        memberConsumer =
+            new MemberConsumer(new NoOpMemberService(), objectMapper, new MemberConsumerMetersService(new SimpleMeterRegistry()));
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+
+        records = new ArrayList<>(batchSize);
+        for (int offset = 0; offset < batchSize; offset++) {
+            long memberId = offset % Math.max(1, batchSize / 2);
+            String value = offset % 100 == 99
+                ? "{\"id\":" + memberId + ",\"name\":"
+                : "{\"id\":" + memberId + ",\"name\":\"회원 이름 " + offset + "\",\"login\":\"member" + memberId + "\"}";
+            records.add(new ConsumerRecord<>(TOPIC, offset % 3, offset, String.valueOf(memberId), value));
+        }
+    }
+
+    @Benchmark
+    public void processMessages() {
+        memberConsumer.processMessages(records, () -> {}, consumer);
+    }
+
+    private static final class NoOpMemberService implements MemberService {
+
+        @Override
+        public void modifyMemberName(long memberId, String name) {}
+
+        @Override
+        public void modifyMemberNames(Map<Long, String> names) {}
+    }
+}
@@ -0,0 +1,70 @@
+package com.artbridge.artist.benchmark;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.management.SecurityMetersService;
+import com.artbridge.artist.infrastructure.security.AuthoritiesConstants;
+import com.artbridge.artist.infrastructure.security.jwt.TokenProviderimpl;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * JWT 필터가 요청마다 호출하는 {@link TokenProviderimpl#validateToken(String)} 와
+ * {@link TokenProviderimpl#getAuthentication(String)} 비용.
+ * <p>
+ * tokenCache 가 false 이면 매번 서명을 검증하고, true 이면 검증된 토큰 캐시를 거칩니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenProviderBenchmark {
+
+    private static final String BASE64_SECRET =
+        "ZTVjODA0NTc1YmQ0ZDcyMWYxNmNmMTg4OGZmZjNhMTE5M2VkY2Y5MjI0Y2Q2NzUzYTAyM2ZkZjRjYmEzNzAzMDc5NGI5Y2NjNjI0ZWQ1MzE4ZTBmYWFlYTBlNjY5NDE4NWU2MTc0NDBjMjEyMGZiNDZhOTc3MmZmNDNlMjc5ZDc=";
+
+    @Param({ "false", "true" })
+    private boolean tokenCache;
+
+    private TokenProviderimpl tokenProvider;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(BASE64_SECRET);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getTokenCache().setEnabled(tokenCache);
+        tokenProvider = new TokenProviderimpl(jHipsterProperties, new SecurityMetersService(new SimpleMeterRegistry()), applicationProperties);
+
+        token =
+            Jwts
+                .builder()
+                .setSubject("member1")
+                .claim("auth", AuthoritiesConstants.USER)
+                .claim("userId", 1L)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(BASE64_SECRET)), SignatureAlgorithm.HS512)
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .compact();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
@@ -0,0 +1,115 @@
+package com.artbridge.artist.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트 하나의 요청 수, 오류 수, 응답 시간 분포.
+ * <p>
+ * 응답 시간은 마이크로초 단위로 기록하며, 1 분까지 유효 숫자 3 자리로 구분합니다.
+ */
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final String name;
+
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * @param status HTTP 상태 코드, 응답을 받지 못했으면 -1
+     * @param elapsedNanos 요청을 보낸 뒤 응답 본문을 다 읽을 때까지 걸린 시간
+     */
+    void record(int status, long elapsedNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status == 503) {
+            rejected.increment();
+        } else if (status < 200 || status >= 400) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * 워밍업 구간의 기록을 버립니다.
+     */
+    void reset() {
+        latencies.reset();
+        errors.reset();
+        rejected.reset();
+    }
+
+    Snapshot snapshot(double elapsedSeconds) {
+        Histogram histogram = latencies.copy();
+        return new Snapshot(
+            name,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / elapsedSeconds,
+            errors.sum(),
+            rejected.sum(),
+            millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue())
+        );
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * 보고서 한 줄. JSON 보고서에도 그대로 직렬화됩니다.
+     */
+    static final class Snapshot {
+
+        public final String endpoint;
+        public final long requests;
+        public final double throughput;
+        public final long errors;
+        public final long rejected;
+        public final double p50;
+        public final double p90;
+        public final double p99;
+        public final double p999;
+        public final double max;
+
+        Snapshot(
+            String endpoint,
+            long requests,
+            double throughput,
+            long errors,
+            long rejected,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max
+        ) {
+            this.endpoint = endpoint;
+            this.requests = requests;
+            this.throughput = throughput;
+            this.errors = errors;
+            this.rejected = rejected;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.p999 = p999;
+            this.max = max;
+        }
+    }
+}
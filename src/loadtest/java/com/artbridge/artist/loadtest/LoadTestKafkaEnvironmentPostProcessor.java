@@ -0,0 +1,57 @@
+package com.artbridge.artist.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.config.ConfigDataEnvironmentPostProcessor;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.Profiles;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * "loadtest" 프로필에서 Kafka 컨테이너를 띄우고, 설정 파일의 bootstrap servers 를 컨테이너 주소로 바꿉니다.
+ * <p>
+ * MariaDB 는 Testcontainers JDBC URL 로 시작되지만 Kafka 는 그런 진입점이 없으므로, 컨텍스트가 만들어지기 전에 여기서 시작합니다.
+ * bootstrap 컨텍스트와 애플리케이션 컨텍스트가 같은 컨테이너를 쓰도록 JVM 당 한 번만 시작합니다.
+ */
+public class LoadTestKafkaEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String LOADTEST_PROFILE = "loadtest";
+
+    private static final String PROPERTY_SOURCE_NAME = "loadtestKafka";
+
+    private static final DockerImageName KAFKA_IMAGE = DockerImageName.parse("confluentinc/cp-kafka:7.2.1");
+
+    private static KafkaContainer kafka;
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.acceptsProfiles(Profiles.of(LOADTEST_PROFILE))) {
+            return;
+        }
+        String bootstrapServers = startKafka().getBootstrapServers();
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.kafka.bootstrap-servers", bootstrapServers);
+        // application.yml sets the brokers through the raw client properties, which take precedence
+        properties.put("spring.kafka.properties.bootstrap.servers", bootstrapServers);
+        environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, properties));
+    }
+
+    @Override
+    public int getOrder() {
+        return ConfigDataEnvironmentPostProcessor.ORDER + 1;
+    }
+
+    private static synchronized KafkaContainer startKafka() {
+        if (kafka == null) {
+            kafka = new KafkaContainer(KAFKA_IMAGE);
+            kafka.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(kafka::stop, "loadtest-kafka-stop"));
+        }
+        return kafka;
+    }
+}
@@ -0,0 +1,449 @@
+package com.artbridge.artist.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.Key;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+
+/**
+ * "loadtest" 프로필로 띄운 서비스에 피드 조회, 상세 조회, 좋아요, 조회 기록, 댓글, 업로드를 섞어 보내고
+ * 엔드포인트별 처리량과 응답 시간 백분위수를 보고합니다.
+ * <p>
+ * 가상 사용자마다 스레드 하나가 응답을 받은 뒤 다음 요청을 보내는 closed-loop 방식입니다.
+ * 토큰은 서비스와 같은 JWT 키로 직접 서명하므로 인증 서버가 필요 없습니다.
+ * 시작할 때 업로드와 관리자 승인으로 아티스트를 만들어 피드를 채우고, 인기 아티스트에 요청이 몰리도록 대상 아티스트를 고릅니다.
+ * <p>
+ * 설정은 시스템 프로퍼티로 바꿀 수 있습니다.
+ * <pre>
+ * ./mvnw -Pdev,loadtest exec:java@workload -Dloadtest.users=100 -Dloadtest.duration=300 \
+ *     -Dloadtest.mix=feed=45,detail=20,like=15,view=12,comment=6,upload=2
+ * </pre>
+ */
+public final class LoadTestWorkload {
+
+    private static final String DEFAULT_SECRET =
+        "ZTVjODA0NTc1YmQ0ZDcyMWYxNmNmMTg4OGZmZjNhMTE5M2VkY2Y5MjI0Y2Q2NzUzYTAyM2ZkZjRjYmEzNzAzMDc5NGI5Y2NjNjI0ZWQ1MzE4ZTBmYWFlYTBlNjY5NDE4NWU2MTc0NDBjMjEyMGZiNDZhOTc3MmZmNDNlMjc5ZDc=";
+
+    private static final String DEFAULT_MIX = "feed=45,detail=20,like=15,view=12,comment=6,upload=2";
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final int IMAGE_VARIANTS = 16;
+
+    private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8001");
+
+    private final int users = Integer.getInteger("loadtest.users", 50);
+
+    private final int durationSeconds = Integer.getInteger("loadtest.duration", 120);
+
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmup", 20);
+
+    private final int seedArtists = Integer.getInteger("loadtest.seed-artists", 200);
+
+    private final long thinkTimeMs = Long.getLong("loadtest.think-time-ms", 0L);
+
+    private final Path reportFile = Paths.get(System.getProperty("loadtest.report", "target/loadtest/report.json"));
+
+    private final Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(System.getProperty("loadtest.jwt-secret", DEFAULT_SECRET)));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private final List<Long> artistIds = new CopyOnWriteArrayList<>();
+
+    private final List<byte[]> images = new ArrayList<>();
+
+    private int totalWeight;
+
+    private volatile boolean running = true;
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestWorkload().run();
+    }
+
+    private void run() throws Exception {
+        parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX));
+        for (int i = 0; i < IMAGE_VARIANTS; i++) {
+            images.add(image(i));
+        }
+        seed();
+
+        System.out.printf(
+            Locale.ROOT,
+            "Running %d users against %s for %ds (+%ds warmup) with %d artists%n",
+            users,
+            baseUrl,
+            durationSeconds,
+            warmupSeconds,
+            artistIds.size()
+        );
+        ExecutorService virtualUsers = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            long memberId = 1_000_000L + i;
+            virtualUsers.execute(() -> this.userLoop(memberId));
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        stats.values().forEach(EndpointStats::reset);
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        List<EndpointStats.Snapshot> snapshots = new ArrayList<>();
+        stats.values().forEach(endpointStats -> snapshots.add(endpointStats.snapshot(elapsedSeconds)));
+
+        running = false;
+        virtualUsers.shutdown();
+        virtualUsers.awaitTermination(30, TimeUnit.SECONDS);
+        report(snapshots, elapsedSeconds);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Workload
+
+    private void userLoop(long memberId) {
+        String token = token(memberId, "ROLE_USER");
+        UserState state = new UserState(memberId, token);
+        while (running) {
+            Operation operation = pick();
+            try {
+                operation.action.run(state);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                operation.stats.record(-1, 0);
+            }
+            if (thinkTimeMs > 0) {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(thinkTimeMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void feed(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        String uri = "/api/artists/feed?size=20" + (state.cursor == null ? "" : "&cursor=" + state.cursor);
+        HttpResponse<byte[]> response = send(endpointStats, request(uri, state.token).GET());
+        state.cursor = response.headers().firstValue(NEXT_CURSOR_HEADER).orElse(null);
+    }
+
+    private void detail(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        send(endpointStats, request("/api/artists/" + popularArtist(), state.token).GET());
+    }
+
+    private void like(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        boolean liked = ThreadLocalRandom.current().nextInt(4) != 0;
+        send(endpointStats, request("/api/likes/artists/" + popularArtist() + "?liked=" + liked, state.token).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private void view(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        Map<String, Object> view = Map.of(
+            "artistDTO",
+            Map.of("id", popularArtist()),
+            "memberDTO",
+            Map.of("id", state.memberId, "login", login(state.memberId))
+        );
+        send(endpointStats, json(request("/api/views", state.token), view));
+    }
+
+    private void comment(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        Map<String, Object> comment = Map.of(
+            "content",
+            "부하 테스트 댓글입니다. " + UUID.randomUUID(),
+            "artistDTO",
+            Map.of("id", popularArtist())
+        );
+        send(endpointStats, json(request("/api/comments", state.token), comment));
+    }
+
+    private void upload(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException {
+        createArtist(state.token, endpointStats).ifPresent(artistIds::add);
+    }
+
+    /**
+     * 인기 아티스트에 요청이 몰리도록, 앞쪽 아티스트일수록 자주 고릅니다.
+     */
+    private long popularArtist() {
+        double skewed = Math.pow(ThreadLocalRandom.current().nextDouble(), 3);
+        return artistIds.get((int) (skewed * artistIds.size()));
+    }
+
+    private Operation pick() {
+        int point = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            point -= operation.weight;
+            if (point < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private void parseMix(String mix) {
+        Map<String, Action> actions = new LinkedHashMap<>();
+        actions.put("feed", this::feed);
+        actions.put("detail", this::detail);
+        actions.put("like", this::like);
+        actions.put("view", this::view);
+        actions.put("comment", this::comment);
+        actions.put("upload", this::upload);
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            Action action = actions.get(pair[0]);
+            if (pair.length != 2 || action == null) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry '" + entry + "', expected one of " + actions.keySet());
+            }
+            int weight = Integer.parseInt(pair[1]);
+            if (weight > 0) {
+                EndpointStats endpointStats = stats.computeIfAbsent(pair[0], EndpointStats::new);
+                operations.add(new Operation(weight, endpointStats, state -> action.run(state, endpointStats)));
+                totalWeight += weight;
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no operation with a positive weight");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Seeding
+
+    /**
+     * 업로드한 아티스트를 관리자 토큰으로 승인해 피드에 노출합니다.
+     */
+    private void seed() throws IOException, InterruptedException {
+        String userToken = token(1L, "ROLE_USER");
+        String adminToken = token(0L, "ROLE_ADMIN,ROLE_USER");
+        EndpointStats seedStats = new EndpointStats("seed");
+        System.out.printf(Locale.ROOT, "Seeding %d artists%n", seedArtists);
+        while (artistIds.size() < seedArtists) {
+            Optional<Long> artistId = createArtist(userToken, seedStats);
+            if (artistId.isEmpty()) {
+                // 업로드 대기열이 가득 찼거나 서비스가 아직 뜨는 중
+                TimeUnit.MILLISECONDS.sleep(200);
+                continue;
+            }
+            HttpResponse<byte[]> response = send(
+                seedStats,
+                request("/api/artists/" + artistId.get() + "/authorized/ok", adminToken).method("PATCH", HttpRequest.BodyPublishers.noBody())
+            );
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Failed to authorize seeded Artist " + artistId.get() + " : " + response.statusCode());
+            }
+            artistIds.add(artistId.get());
+        }
+    }
+
+    private Optional<Long> createArtist(String token, EndpointStats endpointStats) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int n = random.nextInt(1_000_000);
+        Map<String, Object> artist = new LinkedHashMap<>();
+        artist.put("name", "부하 테스트 아티스트 " + n);
+        artist.put("realName", "김작가" + n);
+        artist.put("info", "도시의 빛과 그림자를 주제로 유화와 혼합 매체 작업을 이어 오고 있습니다. ".repeat(3));
+        artist.put("phone", "010-1234-5678");
+        artist.put("career", "2015 회화과 졸업\n2018 개인전, 서울\n2022 레지던시 참여, 베를린");
+        artist.put("artworkDTO", Map.of("title", "작품 " + n));
+
+        String boundary = "----loadtest" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writePart(body, boundary, "artistDTO", null, "text/plain; charset=UTF-8", objectMapper.writeValueAsBytes(artist));
+        writePart(body, boundary, "image", "artist-" + n + ".jpg", "image/jpeg", images.get(random.nextInt(images.size())));
+        body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        HttpResponse<byte[]> response = send(
+            endpointStats,
+            request("/api/artists", token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+        );
+        if (response.statusCode() / 100 != 2) {
+            return Optional.empty();
+        }
+        JsonNode id = objectMapper.readTree(response.body()).get("id");
+        return id == null ? Optional.empty() : Optional.of(id.asLong());
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String name, String filename, String contentType, byte[] content)
+        throws IOException {
+        String disposition = "form-data; name=\"" + name + "\"" + (filename == null ? "" : "; filename=\"" + filename + "\"");
+        String header = "--" + boundary + "\r\nContent-Disposition: " + disposition + "\r\nContent-Type: " + contentType + "\r\n\r\n";
+        body.write(header.getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 휴대폰 사진 정도 크기의 JPEG. 변형마다 내용이 달라 업로드 중복 제거에 걸리지 않습니다.
+     */
+    private static byte[] image(int variant) throws IOException {
+        BufferedImage image = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 400; i++) {
+            graphics.setColor(new Color(random.nextInt(0x1000000)));
+            graphics.fillOval(random.nextInt(1600), random.nextInt(1200), 20 + random.nextInt(300), 20 + random.nextInt(300));
+        }
+        graphics.setColor(Color.WHITE);
+        graphics.drawString("loadtest " + variant, 40, 40);
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // HTTP
+
+    private HttpRequest.Builder request(String path, String token) {
+        return HttpRequest
+            .newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Authorization", "Bearer " + token)
+            .header("Accept", "application/json");
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder builder, Object body) throws IOException {
+        return builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private HttpResponse<byte[]> send(EndpointStats endpointStats, HttpRequest.Builder builder) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        endpointStats.record(response.statusCode(), System.nanoTime() - start);
+        return response;
+    }
+
+    private String token(long memberId, String authorities) {
+        return Jwts
+            .builder()
+            .setSubject(login(memberId))
+            .claim("auth", authorities)
+            .claim("userId", memberId)
+            .signWith(key, SignatureAlgorithm.HS512)
+            .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+            .compact();
+    }
+
+    private static String login(long memberId) {
+        return "loadtest-" + memberId;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Report
+
+    private void report(List<EndpointStats.Snapshot> snapshots, double elapsedSeconds) throws IOException {
+        String format = "%-10s %10s %10s %8s %9s %9s %9s %9s %9s %9s%n";
+        System.out.printf(Locale.ROOT, "%nMeasured %.0fs, latencies in ms%n", elapsedSeconds);
+        System.out.printf(Locale.ROOT, format, "endpoint", "requests", "req/s", "errors", "rejected", "p50", "p90", "p99", "p99.9", "max");
+        long totalRequests = 0;
+        for (EndpointStats.Snapshot snapshot : snapshots) {
+            totalRequests += snapshot.requests;
+            System.out.printf(
+                Locale.ROOT,
+                format,
+                snapshot.endpoint,
+                snapshot.requests,
+                String.format(Locale.ROOT, "%.1f", snapshot.throughput),
+                snapshot.errors,
+                snapshot.rejected,
+                String.format(Locale.ROOT, "%.1f", snapshot.p50),
+                String.format(Locale.ROOT, "%.1f", snapshot.p90),
+                String.format(Locale.ROOT, "%.1f", snapshot.p99),
+                String.format(Locale.ROOT, "%.1f", snapshot.p999),
+                String.format(Locale.ROOT, "%.1f", snapshot.max)
+            );
+        }
+        System.out.printf(Locale.ROOT, "total      %10d %10.1f%n", totalRequests, totalRequests / elapsedSeconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("baseUrl", baseUrl);
+        report.put("users", users);
+        report.put("durationSeconds", elapsedSeconds);
+        report.put("endpoints", snapshots);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface Action {
+        void run(UserState state, EndpointStats endpointStats) throws IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface BoundAction {
+        void run(UserState state) throws IOException, InterruptedException;
+    }
+
+    private static final class Operation {
+
+        private final int weight;
+
+        private final EndpointStats stats;
+
+        private final BoundAction action;
+
+        Operation(int weight, EndpointStats stats, BoundAction action) {
+            this.weight = weight;
+            this.stats = stats;
+            this.action = action;
+        }
+    }
+
+    private static final class UserState {
+
+        private final long memberId;
+
+        private final String token;
+
+        private String cursor;
+
+        UserState(long memberId, String token) {
+            this.memberId = memberId;
+            this.token = token;
+        }
+    }
+}
@@ -18,6 +18,8 @@ public class ArtistDTO implements Serializable {
     private String info;
     private String realName;
     private String imgUrl;
+    private String imgThumbnailUrl;
+    private String imgMediumUrl;
     private String phone;
     private String career;
     private ArtworkDTO artworkDTO;
@@ -0,0 +1,19 @@
+package com.artbridge.artist.application.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 아티스트 카드에 표시할 반응 요약 DTO.
+ */
+@Value
+@AllArgsConstructor
+public class ArtistEngagementDTO implements Serializable {
+
+    Long artistId;
+    long likeCount;
+    long viewCount;
+    long commentCount;
+    boolean likedByMe;
+}
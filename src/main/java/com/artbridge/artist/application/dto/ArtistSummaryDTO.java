@@ -0,0 +1,44 @@
+package com.artbridge.artist.application.dto;
+
+import com.artbridge.artist.domain.model.Artist;
+import com.artbridge.artist.domain.standardType.Status;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * 목록 화면 카드에 필요한 {@link Artist} 컬럼만 담는 읽기 전용 DTO.
+ * <p>
+ * JPQL constructor expression 으로 바로 생성되므로 엔티티와 영속성 컨텍스트를 거치지 않습니다.
+ * 목록 쿼리는 쿼리 캐시에 보관되므로 JDBC 로 갱신되는 likeCount 는 조회하지 않고, 서비스가 좋아요 카운터 값으로 채웁니다.
+ */
+@Value
+@AllArgsConstructor
+public class ArtistSummaryDTO implements Serializable {
+
+    Long id;
+    String name;
+    String imgUrl;
+    String imgThumbnailUrl;
+    String artworkTitle;
+    Long memberId;
+    String memberName;
+    @With
+    Long likeCount;
+
+    Status status;
+
+    public ArtistSummaryDTO(
+        Long id,
+        String name,
+        String imgUrl,
+        String imgThumbnailUrl,
+        String artworkTitle,
+        Long memberId,
+        String memberName,
+        Status status
+    ) {
+        this(id, name, imgUrl, imgThumbnailUrl, artworkTitle, memberId, memberName, null, status);
+    }
+}
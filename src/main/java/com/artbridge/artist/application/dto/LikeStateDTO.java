@@ -0,0 +1,18 @@
+package com.artbridge.artist.application.dto;
+
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 좋아요 on/off 요청 이후 현재 회원의 좋아요 상태와 아티스트의 좋아요 수.
+ */
+@Value
+@AllArgsConstructor
+public class LikeStateDTO implements Serializable {
+
+    Long artistId;
+    boolean liked;
+    boolean changed;
+    long likeCount;
+}
@@ -0,0 +1,13 @@
+package com.artbridge.artist.application.exception;
+
+/**
+ * 이미지 업로드가 끝나지 않은 아티스트를 승인하려 할 때 발생하는 예외.
+ */
+public class ArtistImageNotUploadedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ArtistImageNotUploadedException(Long artistId) {
+        super("Image of Artist " + artistId + " has not been uploaded");
+    }
+}
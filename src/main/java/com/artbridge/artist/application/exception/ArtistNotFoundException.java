@@ -0,0 +1,20 @@
+package com.artbridge.artist.application.exception;
+
+/**
+ * 요청한 아티스트가 없을 때 발생하는 예외. REST 계층에서 404 (Not Found)로 응답합니다.
+ */
+public class ArtistNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long artistId;
+
+    public ArtistNotFoundException(Long artistId) {
+        super("Artist not found : " + artistId);
+        this.artistId = artistId;
+    }
+
+    public Long getArtistId() {
+        return artistId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.artbridge.artist.application.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 작업을 실행합니다. 진행 중인 트랜잭션이 없으면 바로 실행합니다.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {}
+
+    static void run(Runnable action) {
+        run(action, () -> {});
+    }
+
+    /**
+     * 커밋 이후 {@code action} 을 실행하고, 커밋 여부와 관계없이 트랜잭션이 끝나면 {@code cleanup} 을 실행합니다.
+     */
+    static void run(Runnable action, Runnable cleanup) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                action.run();
+            } finally {
+                cleanup.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    cleanup.run();
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.application.dto.ArtistEngagementDTO;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 아티스트 카드에 필요한 반응(좋아요, 조회, 댓글) 요약을 여러 아티스트에 대해 한 번에 조회하는 서비스.
+ */
+public interface ArtistEngagementService {
+
+    /**
+     * 아티스트별 좋아요 수, 조회수, 댓글 수와 현재 회원의 좋아요 여부를 조회합니다.
+     * 아티스트 수와 무관하게 집계 쿼리 수는 일정합니다.
+     *
+     * @param artistIds 아티스트 ID 목록
+     * @param memberId  현재 회원 ID, 로그인하지 않았으면 null (Long)
+     * @return 요청한 순서대로 정렬된 아티스트별 반응 요약 목록
+     */
+    List<ArtistEngagementDTO> findEngagements(Collection<Long> artistIds, Long memberId);
+}
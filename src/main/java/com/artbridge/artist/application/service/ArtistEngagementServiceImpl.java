@@ -0,0 +1,81 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.application.dto.ArtistEngagementDTO;
+import com.artbridge.artist.infrastructure.repository.ArtistCount;
+import com.artbridge.artist.infrastructure.repository.CommentRepository;
+import com.artbridge.artist.infrastructure.repository.ViewRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for {@link ArtistEngagementService}.
+ * <p>
+ * 좋아요 수는 {@link LikeCounterService} 의 카운터를, 조회수와 댓글 수는 artist_id 로 group by 한 집계 쿼리를 사용합니다.
+ * 좋아요 여부는 {@link LikedArtistIndexService} 의 회원별 인덱스로 판별합니다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ArtistEngagementServiceImpl implements ArtistEngagementService {
+
+    private final Logger log = LoggerFactory.getLogger(ArtistEngagementServiceImpl.class);
+
+    private final LikeCounterService likeCounterService;
+
+    private final LikedArtistIndexService likedArtistIndexService;
+
+    private final ViewRepository viewRepository;
+
+    private final CommentRepository commentRepository;
+
+    public ArtistEngagementServiceImpl(
+        LikeCounterService likeCounterService,
+        LikedArtistIndexService likedArtistIndexService,
+        ViewRepository viewRepository,
+        CommentRepository commentRepository
+    ) {
+        this.likeCounterService = likeCounterService;
+        this.likedArtistIndexService = likedArtistIndexService;
+        this.viewRepository = viewRepository;
+        this.commentRepository = commentRepository;
+    }
+
+    @Override
+    public List<ArtistEngagementDTO> findEngagements(Collection<Long> artistIds, Long memberId) {
+        log.debug("Request to get engagements of Artists : {}", artistIds);
+        Set<Long> ids = new LinkedHashSet<>(artistIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, Long> likeCounts = likeCounterService.getCounts(ids);
+        Map<Long, Long> viewCounts = toMap(viewRepository.countByArtistIds(ids));
+        Map<Long, Long> commentCounts = toMap(commentRepository.countByArtistIds(ids));
+        Set<Long> likedArtistIds = likedArtistIndexService.findLiked(memberId, ids);
+
+        return ids
+            .stream()
+            .map(id ->
+                new ArtistEngagementDTO(
+                    id,
+                    likeCounts.getOrDefault(id, 0L),
+                    viewCounts.getOrDefault(id, 0L),
+                    commentCounts.getOrDefault(id, 0L),
+                    likedArtistIds.contains(id)
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> toMap(List<ArtistCount> counts) {
+        return counts.stream().collect(Collectors.toMap(ArtistCount::getArtistId, ArtistCount::getCount));
+    }
+}
@@ -0,0 +1,45 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.application.dto.ArtistSummaryDTO;
+import com.artbridge.artist.domain.standardType.Status;
+import com.artbridge.artist.infrastructure.configuration.CacheNames;
+import com.artbridge.artist.infrastructure.repository.ArtistRepository;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상태별 심사 대기 목록 페이지를 캐시에 보관합니다.
+ * <p>
+ * 캐시에는 목록 쿼리 결과만 두고 likeCount 는 {@link ArtistServiceImpl} 이 꺼낼 때마다 채우므로,
+ * 캐시된 페이지에서도 좋아요 수가 멈추지 않습니다. 캐시는 {@link ArtistServiceImpl} 이 커밋 이후에 비웁니다.
+ */
+@Component
+@Transactional(readOnly = true)
+class ArtistPendingQueueCache {
+
+    private static final String PENDING_PAGE_KEY = "#pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort";
+
+    private final ArtistRepository artistRepository;
+
+    ArtistPendingQueueCache(ArtistRepository artistRepository) {
+        this.artistRepository = artistRepository;
+    }
+
+    @Cacheable(cacheNames = CacheNames.UPLOAD_PENDING_QUEUE_CACHE, key = PENDING_PAGE_KEY)
+    public Page<ArtistSummaryDTO> findCreatePendings(Pageable pageable) {
+        return artistRepository.findSummariesByStatus(Status.UPLOAD_PENDING, pageable);
+    }
+
+    @Cacheable(cacheNames = CacheNames.REVISION_PENDING_QUEUE_CACHE, key = PENDING_PAGE_KEY)
+    public Page<ArtistSummaryDTO> findUpdatePendings(Pageable pageable) {
+        return artistRepository.findSummariesByStatus(Status.REVISION_PENDING, pageable);
+    }
+
+    @Cacheable(cacheNames = CacheNames.DELETE_PENDING_QUEUE_CACHE, key = PENDING_PAGE_KEY)
+    public Page<ArtistSummaryDTO> findDeletePendings(Pageable pageable) {
+        return artistRepository.findSummariesByStatus(Status.DELETE_PENDING, pageable);
+    }
+}
@@ -1,10 +1,16 @@
 package com.artbridge.artist.application.service;
 
+import com.artbridge.artist.application.exception.ArtistImageNotUploadedException;
+import com.artbridge.artist.application.exception.ArtistNotFoundException;
 import com.artbridge.artist.domain.model.Artist;
 import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.application.dto.ArtistSummaryDTO;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link Artist}.
@@ -50,6 +56,14 @@ public interface ArtistService {
      */
     Optional<ArtistDTO> findOne(Long id);
 
+    /**
+     * 여러 아티스트를 한 번에 조회합니다. 2차 캐시에 있는 아티스트는 캐시에서 읽고, 나머지만 하나의 IN 쿼리로 조회합니다.
+     *
+     * @param ids 조회할 아티스트 ID 목록
+     * @return 요청한 순서대로 정렬된 아티스트 정보 목록, 존재하지 않는 ID 는 제외됩니다.
+     */
+    List<ArtistDTO> findAllById(List<Long> ids);
+
     /**
      * 아티스트를 삭제합니다.
      *
@@ -72,7 +86,16 @@ public interface ArtistService {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 아티스트 정보를 담은 Page 객체
      */
-    Page<ArtistDTO> findAllByStatus(Pageable pageable);
+    Page<ArtistSummaryDTO> findAllByStatus(Pageable pageable);
+
+    /**
+     * 승인된 아티스트를 id 역순으로 keyset 페이지네이션하여 조회합니다. 전체 개수는 계산하지 않습니다.
+     *
+     * @param lastId 이전 페이지의 마지막 아티스트 ID, 첫 페이지이면 null (Long)
+     * @param size   페이지 크기 (int)
+     * @return 조회된 아티스트 정보를 담은 Slice 객체
+     */
+    Slice<ArtistSummaryDTO> findFeed(Long lastId, int size);
 
 
     /**
@@ -81,7 +104,7 @@ public interface ArtistService {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 아티스트 정보를 담은 Page 객체
      */
-    Page<ArtistDTO> findCreatePendings(Pageable pageable);
+    Page<ArtistSummaryDTO> findCreatePendings(Pageable pageable);
 
 
     /**
@@ -90,7 +113,7 @@ public interface ArtistService {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 아티스트 정보를 담은 Page 객체
      */
-    Page<ArtistDTO> findUpdatePendings(Pageable pageable);
+    Page<ArtistSummaryDTO> findUpdatePendings(Pageable pageable);
 
 
     /**
@@ -99,15 +122,47 @@ public interface ArtistService {
      * @param pageable 페이지 정보 (Pageable)
      * @return 페이지별로 조회된 아티스트 정보를 담은 Page 객체
      */
-    Page<ArtistDTO> findDeletePendings(Pageable pageable);
+    Page<ArtistSummaryDTO> findDeletePendings(Pageable pageable);
 
     /**
-     * 승인된 아티스트로 변경합니다.
+     * 승인된 아티스트로 변경합니다. 이미지 업로드가 끝나지 않은 아티스트는 승인하지 않습니다.
      *
      * @param id 아티스트 ID
      * @return 변경된 아티스트 정보 (ArtistDTO)
+     * @throws ArtistImageNotUploadedException 이미지가 아직 기록되지 않은 경우
+     * @throws ArtistNotFoundException         아티스트가 없는 경우
      */
     ArtistDTO authorizeOkArtist(Long id);
 
-    void modifyMemberName(long id, String name);
+    /**
+     * 아티스트를 등록한 회원들의 이름을 JDBC batch update 로 변경합니다.
+     *
+     * @param names 회원 ID - 변경된 회원 이름
+     */
+    void modifyMemberNames(Map<Long, String> names);
+    /**
+     * 비동기 업로드가 끝난 아티스트의 이미지 URL 을 기록합니다.
+     *
+     * @param id     아티스트 ID (Long)
+     * @param imgUrl 업로드된 이미지 URL (String)
+     */
+    void modifyImgUrl(Long id, String imgUrl);
+
+    /**
+     * 비동기 업로드에 실패한 아티스트를 {@link com.artbridge.artist.domain.standardType.Status#UPLOAD_FAILED} 상태로 변경합니다.
+     * 업로드 대기({@code UPLOAD_PENDING}) 중이고 이미지가 기록되지 않은 아티스트만 변경하므로,
+     * 늦게 끝난 timeout 이나 종료 처리가 이미 승인되었거나 다른 심사 중인 아티스트의 상태를 바꾸지 않습니다.
+     *
+     * @param id 아티스트 ID (Long)
+     */
+    void markImageUploadFailed(Long id);
+
+    /**
+     * 파생 이미지 생성이 끝난 아티스트의 썸네일/중간 크기 이미지 URL 을 기록합니다.
+     *
+     * @param id              아티스트 ID (Long)
+     * @param imgThumbnailUrl 썸네일 이미지 URL (String)
+     * @param imgMediumUrl    중간 크기 이미지 URL (String)
+     */
+    void modifyImgVariantUrls(Long id, String imgThumbnailUrl, String imgMediumUrl);
 }
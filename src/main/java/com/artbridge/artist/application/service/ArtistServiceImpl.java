@@ -1,39 +1,87 @@
 package com.artbridge.artist.application.service;
 
+import com.artbridge.artist.application.exception.ArtistImageNotUploadedException;
+import com.artbridge.artist.application.exception.ArtistNotFoundException;
 import com.artbridge.artist.domain.model.Artist;
 import com.artbridge.artist.domain.standardType.Status;
 import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.application.dto.ArtistSummaryDTO;
 import com.artbridge.artist.application.mapper.ArtistMapper;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
 
-import com.artbridge.artist.infrastructure.messaging.MemberProducer;
+import com.artbridge.artist.infrastructure.configuration.CacheNames;
 import com.artbridge.artist.infrastructure.repository.ArtistRepository;
+import com.artbridge.artist.infrastructure.repository.MemberNameRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Service Implementation for managing {@link Artist}.
+ * <p>
+ * 심사 대기 목록 페이지는 {@link ArtistPendingQueueCache} 의 상태별 캐시에 보관하고, likeCount 는 캐시 밖에서 채웁니다.
+ * 아티스트의 상태나 목록에 보이는 값이 바뀌면 변경 전후 상태의 캐시만 커밋 이후에 비웁니다.
  */
 @Service
 @Transactional
 public class ArtistServiceImpl implements ArtistService {
 
+    private static final Object PENDING_QUEUE_EVICTIONS = new Object();
+
     private final Logger log = LoggerFactory.getLogger(ArtistServiceImpl.class);
 
     private final ArtistRepository artistRepository;
 
+    private final ArtistPendingQueueCache artistPendingQueueCache;
+
+    private final MemberNameRepository memberNameRepository;
+
     private final ArtistMapper artistMapper;
 
-    private final MemberProducer memberProducer;
+    private final MemberNameOutboxService memberNameOutboxService;
+
+    private final LikeCounterService likeCounterService;
+
+    private final EntityManager entityManager;
 
-    public ArtistServiceImpl(ArtistRepository artistRepository, ArtistMapper artistMapper, MemberProducer memberProducer) {
+    private final CacheManager cacheManager;
+
+    public ArtistServiceImpl(
+        ArtistRepository artistRepository,
+        ArtistPendingQueueCache artistPendingQueueCache,
+        MemberNameRepository memberNameRepository,
+        ArtistMapper artistMapper,
+        MemberNameOutboxService memberNameOutboxService,
+        LikeCounterService likeCounterService,
+        EntityManager entityManager,
+        CacheManager cacheManager
+    ) {
         this.artistRepository = artistRepository;
+        this.artistPendingQueueCache = artistPendingQueueCache;
+        this.memberNameRepository = memberNameRepository;
         this.artistMapper = artistMapper;
-        this.memberProducer = memberProducer;
+        this.memberNameOutboxService = memberNameOutboxService;
+        this.likeCounterService = likeCounterService;
+        this.entityManager = entityManager;
+        this.cacheManager = cacheManager;
     }
 
     @Override
@@ -42,18 +90,22 @@ public class ArtistServiceImpl implements ArtistService {
         Artist artist = artistMapper.toEntity(artistDTO);
         artist.setStatus(Status.UPLOAD_PENDING);
 
-        memberProducer.requestMemberName(artist.getCreatedMember().getId());
+        memberNameOutboxService.enqueue(artist.getCreatedMember().getId());
 
         artist = artistRepository.save(artist);
+        evictPendingQueuesAfterCommit(Status.UPLOAD_PENDING);
         return artistMapper.toDto(artist);
     }
 
     @Override
     public ArtistDTO update(ArtistDTO artistDTO) {
         log.debug("Request to update Artist : {}", artistDTO);
+        Optional<Status> previousStatus = findStatus(artistDTO.getId());
         Artist artist = artistMapper.toEntity(artistDTO);
         artist.setStatus(Status.REVISION_PENDING);
         artist = artistRepository.save(artist);
+        previousStatus.ifPresent(this::evictPendingQueuesAfterCommit);
+        evictPendingQueuesAfterCommit(Status.REVISION_PENDING);
         return artistMapper.toDto(artist);
     }
 
@@ -64,7 +116,9 @@ public class ArtistServiceImpl implements ArtistService {
         return artistRepository
             .findById(artistDTO.getId())
             .map(existingArtist -> {
+                evictPendingQueuesAfterCommit(existingArtist.getStatus());
                 artistMapper.partialUpdate(existingArtist, artistDTO);
+                evictPendingQueuesAfterCommit(existingArtist.getStatus());
 
                 return existingArtist;
             })
@@ -86,43 +140,88 @@ public class ArtistServiceImpl implements ArtistService {
         return artistRepository.findById(id).map(artistMapper::toDto);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ArtistDTO> findAllById(List<Long> ids) {
+        log.debug("Request to get Artists : {}", ids);
+        Map<Long, Artist> artists = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        for (Long id : uniqueIds) {
+            if (cache.contains(Artist.class, id)) {
+                Artist artist = entityManager.find(Artist.class, id);
+                if (artist != null) {
+                    artists.put(id, artist);
+                }
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            artistRepository.findAllById(misses).forEach(artist -> artists.put(artist.getId(), artist));
+        }
+        log.debug("Resolved {} Artists from second-level cache, {} by query", uniqueIds.size() - misses.size(), misses.size());
+        return ids.stream().map(artists::get).filter(Objects::nonNull).map(artistMapper::toDto).collect(Collectors.toList());
+    }
+
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Artist : {}", id);
+        findStatus(id).ifPresent(this::evictPendingQueuesAfterCommit);
         artistRepository.deleteById(id);
     }
 
     @Override
     public ArtistDTO deletePending(ArtistDTO artistDTO) {
         log.debug("Request to delete pending Artist : {}", artistDTO);
+        Optional<Status> previousStatus = findStatus(artistDTO.getId());
         Artist artist = artistMapper.toEntity(artistDTO);
         artist.setStatus(Status.DELETE_PENDING);
         artist = artistRepository.save(artist);
+        previousStatus.ifPresent(this::evictPendingQueuesAfterCommit);
+        evictPendingQueuesAfterCommit(Status.DELETE_PENDING);
         return artistMapper.toDto(artist);
     }
 
     @Override
-    public Page<ArtistDTO> findAllByStatus(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtistSummaryDTO> findAllByStatus(Pageable pageable) {
         log.debug("Request to get all Artists by status: {}", Status.OK);
-        return artistRepository.findAllByStatusOrderByIdDesc(pageable, Status.OK).map(artistMapper::toDto);
+        return withLikeCounts(artistRepository.findSummariesByStatus(Status.OK, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ArtistSummaryDTO> findFeed(Long lastId, int size) {
+        log.debug("Request to get Artist feed after : {}", lastId);
+        Pageable pageable = PageRequest.of(0, size);
+        return withLikeCounts(
+            lastId == null
+                ? artistRepository.findSummarySliceByStatus(Status.OK, pageable)
+                : artistRepository.findSummarySliceByStatusAfter(Status.OK, lastId, pageable)
+        );
     }
 
     @Override
-    public Page<ArtistDTO> findCreatePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtistSummaryDTO> findCreatePendings(Pageable pageable) {
         log.debug("Request to get create pending Artists");
-        return artistRepository.findAllByStatusOrderByIdDesc(pageable, Status.UPLOAD_PENDING).map(artistMapper::toDto);
+        return withLikeCounts(artistPendingQueueCache.findCreatePendings(pageable));
     }
 
     @Override
-    public Page<ArtistDTO> findUpdatePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtistSummaryDTO> findUpdatePendings(Pageable pageable) {
         log.debug("Request to get update pending Artists");
-        return artistRepository.findAllByStatusOrderByIdDesc(pageable, Status.REVISION_PENDING).map(artistMapper::toDto);
+        return withLikeCounts(artistPendingQueueCache.findUpdatePendings(pageable));
     }
 
     @Override
-    public Page<ArtistDTO> findDeletePendings(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ArtistSummaryDTO> findDeletePendings(Pageable pageable) {
         log.debug("Request to get delete pending Artists");
-        return artistRepository.findAllByStatusOrderByIdDesc(pageable, Status.DELETE_PENDING).map(artistMapper::toDto);
+        return withLikeCounts(artistPendingQueueCache.findDeletePendings(pageable));
     }
 
     @Override
@@ -130,21 +229,117 @@ public class ArtistServiceImpl implements ArtistService {
         log.debug("Request to authorize ok artist : {}", id);
         return artistRepository.findById(id)
             .map(artist -> {
+                if (artist.getImgUrl() == null) {
+                    throw new ArtistImageNotUploadedException(id);
+                }
+                evictPendingQueuesAfterCommit(artist.getStatus());
                 artist.setStatus(Status.OK);
                 return artistMapper.toDto(artistRepository.save(artist));
             })
-            .orElseThrow();
+            .orElseThrow(() -> new ArtistNotFoundException(id));
     }
 
     @Override
-    public void modifyMemberName(long id, String name) {
-        log.debug("Request to modify member name : {}", id);
-        artistRepository.findAllByCreatedMemberId(id).forEach(artist -> {
-            artist.setCreatedMemberName(name);
-            artistRepository.save(artist);
-        });
+    public void modifyMemberNames(Map<Long, String> names) {
+        log.debug("Request to modify member names : {}", names.keySet());
+        int updated = memberNameRepository.updateArtistMemberNames(names);
+        log.debug("Modified member name of {} artists", updated);
+        if (updated > 0) {
+            evictPendingQueuesAfterCommit(Status.UPLOAD_PENDING, Status.REVISION_PENDING, Status.DELETE_PENDING);
+        }
     }
 
+    @Override
+    public void modifyImgUrl(Long id, String imgUrl) {
+        log.debug("Request to modify image url of Artist : {}", id);
+        artistRepository.findById(id).ifPresentOrElse(
+            artist -> {
+                artist.setImgUrl(imgUrl);
+                evictPendingQueuesAfterCommit(artist.getStatus());
+            },
+            () -> log.warn("Artist {} was deleted before its image upload finished", id)
+        );
+    }
 
+    @Override
+    public void markImageUploadFailed(Long id) {
+        log.debug("Request to mark image upload of Artist as failed : {}", id);
+        artistRepository
+            .findById(id)
+            .filter(artist -> artist.getImgUrl() == null && artist.getStatus() == Status.UPLOAD_PENDING)
+            .ifPresent(artist -> {
+                evictPendingQueuesAfterCommit(Status.UPLOAD_PENDING);
+                artist.setStatus(Status.UPLOAD_FAILED);
+            });
+    }
 
+    @Override
+    public void modifyImgVariantUrls(Long id, String imgThumbnailUrl, String imgMediumUrl) {
+        log.debug("Request to modify image variant urls of Artist : {}", id);
+        artistRepository
+            .findById(id)
+            .ifPresent(artist -> {
+                artist.imgThumbnailUrl(imgThumbnailUrl).imgMediumUrl(imgMediumUrl);
+                evictPendingQueuesAfterCommit(artist.getStatus());
+            });
+    }
+
+    /**
+     * 목록 쿼리에서 빠진 likeCount 를 좋아요 카운터에서 한 번에 채웁니다.
+     */
+    private Page<ArtistSummaryDTO> withLikeCounts(Page<ArtistSummaryDTO> page) {
+        Map<Long, Long> likeCounts = likeCounterService.getCounts(page.map(ArtistSummaryDTO::getId).getContent());
+        return page.map(summary -> summary.withLikeCount(likeCounts.getOrDefault(summary.getId(), 0L)));
+    }
+
+    private Slice<ArtistSummaryDTO> withLikeCounts(Slice<ArtistSummaryDTO> slice) {
+        Map<Long, Long> likeCounts = likeCounterService.getCounts(slice.map(ArtistSummaryDTO::getId).getContent());
+        return slice.map(summary -> summary.withLikeCount(likeCounts.getOrDefault(summary.getId(), 0L)));
+    }
+
+    private Optional<Status> findStatus(Long id) {
+        return id == null ? Optional.empty() : artistRepository.findById(id).map(Artist::getStatus);
+    }
+
+    /**
+     * 주어진 상태의 심사 대기 목록 캐시를 커밋 이후에 비웁니다.
+     * 한 트랜잭션 안의 요청은 모아서 커밋 때 상태별로 한 번만 비웁니다.
+     */
+    private void evictPendingQueuesAfterCommit(Status... statuses) {
+        Set<Status> pendingStatuses = EnumSet.noneOf(Status.class);
+        for (Status status : statuses) {
+            if (status != null && status != Status.OK && status != Status.UPLOAD_FAILED) {
+                pendingStatuses.add(status);
+            }
+        }
+        if (pendingStatuses.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictPendingQueues(pendingStatuses);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<Status> scheduled = (Set<Status>) TransactionSynchronizationManager.getResource(PENDING_QUEUE_EVICTIONS);
+        if (scheduled == null) {
+            Set<Status> evictions = EnumSet.noneOf(Status.class);
+            TransactionSynchronizationManager.bindResource(PENDING_QUEUE_EVICTIONS, evictions);
+            AfterCommit.run(
+                () -> evictPendingQueues(evictions),
+                () -> TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_QUEUE_EVICTIONS)
+            );
+            scheduled = evictions;
+        }
+        scheduled.addAll(pendingStatuses);
+    }
+
+    private void evictPendingQueues(Set<Status> statuses) {
+        for (Status status : statuses) {
+            org.springframework.cache.Cache cache = cacheManager.getCache(CacheNames.PENDING_QUEUE_CACHE_PREFIX + status.name());
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("Evicted pending queue caches : {}", statuses);
+    }
 }
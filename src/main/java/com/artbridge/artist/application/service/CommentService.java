@@ -2,9 +2,11 @@ package com.artbridge.artist.application.service;
 
 import com.artbridge.artist.domain.model.Comment;
 import com.artbridge.artist.application.dto.CommentDTO;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service Interface for managing {@link Comment}.
@@ -66,5 +68,20 @@ public interface CommentService {
      */
     Page<CommentDTO> findByArtistId(Pageable pageable, Long artistId);
 
-    void modifyMemberName(long id, String name);
+    /**
+     * 특정 아티스트의 댓글을 id 역순으로 keyset 페이지네이션하여 가져옵니다. 전체 개수는 계산하지 않습니다.
+     *
+     * @param artistId 아티스트의 ID (Long)
+     * @param lastId   이전 페이지의 마지막 댓글 ID, 첫 페이지이면 null (Long)
+     * @param size     페이지 크기 (int)
+     * @return Slice<CommentDTO> : 조회된 댓글 목록을 반환합니다. 댓글이 없으면 빈 Slice 를 반환합니다.
+     */
+    Slice<CommentDTO> findStreamByArtistId(Long artistId, Long lastId, int size);
+
+    /**
+     * 댓글을 작성한 회원들의 이름을 JDBC batch update 로 변경합니다.
+     *
+     * @param names 회원 ID - 변경된 회원 이름
+     */
+    void modifyMemberNames(Map<Long, String> names);
 }
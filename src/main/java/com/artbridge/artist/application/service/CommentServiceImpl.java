@@ -1,15 +1,18 @@
 package com.artbridge.artist.application.service;
 
-import com.artbridge.artist.infrastructure.messaging.MemberProducer;
 import com.artbridge.artist.domain.model.Comment;
 import com.artbridge.artist.infrastructure.repository.CommentRepository;
+import com.artbridge.artist.infrastructure.repository.MemberNameRepository;
 import com.artbridge.artist.application.dto.CommentDTO;
 import com.artbridge.artist.application.mapper.CommentMapper;
+import java.util.Map;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,14 +27,22 @@ public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
 
+    private final MemberNameRepository memberNameRepository;
+
     private final CommentMapper commentMapper;
 
-    private final MemberProducer memberProducer;
+    private final MemberNameOutboxService memberNameOutboxService;
 
-    public CommentServiceImpl(CommentRepository commentRepository, CommentMapper commentMapper, MemberProducer memberProducer) {
+    public CommentServiceImpl(
+        CommentRepository commentRepository,
+        MemberNameRepository memberNameRepository,
+        CommentMapper commentMapper,
+        MemberNameOutboxService memberNameOutboxService
+    ) {
         this.commentRepository = commentRepository;
+        this.memberNameRepository = memberNameRepository;
         this.commentMapper = commentMapper;
-        this.memberProducer = memberProducer;
+        this.memberNameOutboxService = memberNameOutboxService;
     }
 
     @Override
@@ -39,7 +50,7 @@ public class CommentServiceImpl implements CommentService {
         log.debug("Request to save Comment : {}", commentDTO);
         Comment comment = commentMapper.toEntity(commentDTO);
 
-        this.memberProducer.requestMemberName(comment.getMember().getId());
+        this.memberNameOutboxService.enqueue(comment.getMember().getId());
         comment = commentRepository.save(comment);
         return commentMapper.toDto(comment);
     }
@@ -94,11 +105,20 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public void modifyMemberName(long id, String name) {
-        log.debug("Request to modify member name : {}", id);
-        commentRepository.findCommentsByMember_Id(id).forEach(comment -> {
-            comment.setMemberName(name);
-            commentRepository.save(comment);
-        });
+    @Transactional(readOnly = true)
+    public Slice<CommentDTO> findStreamByArtistId(Long artistId, Long lastId, int size) {
+        log.debug("Request to get Comment stream of Artist {} after : {}", artistId, lastId);
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Comment> slice = lastId == null
+            ? commentRepository.findByArtist_IdOrderByIdDesc(artistId, pageable)
+            : commentRepository.findByArtist_IdAndIdLessThanOrderByIdDesc(artistId, lastId, pageable);
+        return slice.map(commentMapper::toDto);
+    }
+
+    @Override
+    public void modifyMemberNames(Map<Long, String> names) {
+        log.debug("Request to modify member names : {}", names.keySet());
+        int updated = memberNameRepository.updateCommentMemberNames(names);
+        log.debug("Modified member name of {} comments", updated);
     }
 }
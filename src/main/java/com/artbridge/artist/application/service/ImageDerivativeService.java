@@ -0,0 +1,20 @@
+package com.artbridge.artist.application.service;
+
+import java.nio.file.Path;
+
+/**
+ * 업로드된 원본 이미지로부터 목록 화면용 축소 이미지(썸네일, 중간 크기)를 만드는 서비스.
+ */
+public interface ImageDerivativeService {
+
+    /**
+     * 파생 이미지 생성을 비동기로 시작하고, 완료되면 아티스트의 파생 이미지 URL 을 기록합니다.
+     * 작업이 끝나거나 작업을 받을 수 없으면 whenDone 을 호출합니다.
+     *
+     * @param artistId   파생 이미지를 기록할 아티스트 ID (Long)
+     * @param objectName 원본 내용의 digest, 파생 이미지 object 이름의 앞부분 (String)
+     * @param source     원본 이미지 파일 (Path), whenDone 이 호출될 때까지 유지되어야 합니다.
+     * @param whenDone   작업 종료 후 호출할 콜백 (Runnable)
+     */
+    void generate(Long artistId, String objectName, Path source, Runnable whenDone);
+}
@@ -0,0 +1,113 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.gcs.GCSService;
+import com.artbridge.artist.infrastructure.image.ImageResizer;
+import com.artbridge.artist.infrastructure.management.ImageUploadMetersService;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service Implementation for {@link ImageDerivativeService}.
+ * <p>
+ * 이미지 디코딩은 CPU 와 메모리를 많이 사용하므로 업로드와 별도의 bounded pool 에서 실행합니다.
+ * pool 이 가득 차면 파생 이미지를 건너뛰며, 이 경우 목록 화면은 원본 imgUrl 을 사용합니다.
+ */
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private final Logger log = LoggerFactory.getLogger(ImageDerivativeServiceImpl.class);
+
+    private final ImageResizer imageResizer;
+
+    private final GCSService gcsService;
+
+    private final ArtistService artistService;
+
+    private final ImageUploadMetersService imageUploadMetersService;
+
+    private final ApplicationProperties.ImageDerivative properties;
+
+    private final ThreadPoolExecutor workers;
+
+    public ImageDerivativeServiceImpl(
+        ImageResizer imageResizer,
+        GCSService gcsService,
+        ArtistService artistService,
+        ImageUploadMetersService imageUploadMetersService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.imageResizer = imageResizer;
+        this.gcsService = gcsService;
+        this.artistService = artistService;
+        this.imageUploadMetersService = imageUploadMetersService;
+        this.properties = applicationProperties.getImageDerivative();
+        this.workers =
+            new ThreadPoolExecutor(
+                properties.getConcurrency(),
+                properties.getConcurrency(),
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                new CustomizableThreadFactory("image-derivative-")
+            );
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Image derivative workers did not finish in time");
+            workers.shutdownNow();
+        }
+    }
+
+    @Override
+    public void generate(Long artistId, String objectName, Path source, Runnable whenDone) {
+        try {
+            workers.execute(() -> this.run(artistId, objectName, source, whenDone));
+        } catch (RejectedExecutionException e) {
+            log.warn("Skipped image derivatives for Artist {}: derivative pool is full", artistId);
+            imageUploadMetersService.trackDerivativeSkipped();
+            whenDone.run();
+        }
+    }
+
+    private void run(Long artistId, String objectName, Path source, Runnable whenDone) {
+        long start = System.nanoTime();
+        try {
+            String imgThumbnailUrl = store(objectName, source, properties.getThumbnailWidth());
+            String imgMediumUrl = store(objectName, source, properties.getMediumWidth());
+            artistService.modifyImgVariantUrls(artistId, imgThumbnailUrl, imgMediumUrl);
+            imageUploadMetersService.trackDerivativeSuccess(System.nanoTime() - start);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate image derivatives for Artist : {}", artistId, e);
+            imageUploadMetersService.trackDerivativeFailure(System.nanoTime() - start);
+        } finally {
+            whenDone.run();
+        }
+    }
+
+    /**
+     * 원본 digest 와 가로 크기로 이름을 붙이므로, 같은 원본의 파생 이미지가 이미 있으면 다시 만들지 않습니다.
+     */
+    private String store(String objectName, Path source, int width) throws IOException {
+        String derivativeName = objectName + "_w" + width + "." + ImageResizer.DERIVATIVE_SUFFIX;
+        Optional<String> existing = gcsService.findImage(derivativeName);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+        byte[] derivative = imageResizer.resize(source, width, properties.getQuality());
+        return gcsService.uploadImageToGCS(derivativeName, ImageResizer.DERIVATIVE_CONTENT_TYPE, derivative);
+    }
+}
@@ -0,0 +1,42 @@
+package com.artbridge.artist.application.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 아티스트 이미지를 요청 스레드와 분리된 upload 단계에서 저장하는 서비스.
+ * <p>
+ * 요청 스레드는 {@link #stage(MultipartFile)} 로 자리를 예약하고 파일을 로컬 임시 파일로 옮긴 뒤,
+ * 아티스트를 저장하고 {@link #upload(Long, Path)} 로 업로드를 넘깁니다.
+ * 업로드가 끝나면 아티스트의 imgUrl 이 채워지고, 실패하면 상태가 UPLOAD_FAILED 로 바뀌므로
+ * 클라이언트는 아티스트를 조회해 완료 여부를 확인합니다.
+ */
+public interface ImageUploadService {
+
+    /**
+     * upload 단계의 자리를 예약하고 이미지를 임시 파일로 옮깁니다.
+     *
+     * @param imageFile 업로드된 이미지 파일 (MultipartFile)
+     * @return 임시 파일 경로, upload 단계가 가득 찬 경우 empty
+     * @throws com.artbridge.artist.infrastructure.image.UnsupportedImageFormatException 이미지로 판별할 수 없는 파일인 경우
+     * @throws IOException 임시 파일로 옮기지 못한 경우
+     */
+    Optional<Path> stage(MultipartFile imageFile) throws IOException;
+
+    /**
+     * 임시 파일의 업로드를 비동기로 시작하고, 완료되면 아티스트의 imgUrl 을 기록합니다.
+     *
+     * @param artistId  이미지를 기록할 아티스트 ID (Long)
+     * @param stagedFile {@link #stage(MultipartFile)} 가 반환한 임시 파일 경로 (Path)
+     */
+    void upload(Long artistId, Path stagedFile);
+
+    /**
+     * 업로드하지 않을 임시 파일을 삭제하고 예약한 자리를 반환합니다.
+     *
+     * @param stagedFile {@link #stage(MultipartFile)} 가 반환한 임시 파일 경로 (Path)
+     */
+    void discard(Path stagedFile);
+}
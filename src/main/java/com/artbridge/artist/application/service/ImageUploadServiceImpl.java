@@ -0,0 +1,279 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.gcs.GCSService;
+import com.artbridge.artist.infrastructure.gcs.ImageDigest;
+import com.artbridge.artist.infrastructure.image.ImageFormat;
+import com.artbridge.artist.infrastructure.image.ImageResizer;
+import com.artbridge.artist.infrastructure.image.UnsupportedImageFormatException;
+import com.artbridge.artist.infrastructure.management.ImageUploadMetersService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Service Implementation for {@link ImageUploadService}.
+ * <p>
+ * 동시에 진행되는 업로드는 concurrency 개, 대기 중인 업로드까지 합쳐 concurrency + queueCapacity 개로 제한합니다.
+ * 업로드가 timeoutMs 안에 끝나지 않으면 worker 스레드를 interrupt 해 업로드를 중단합니다.
+ * 원본은 내용의 digest 를 이름으로, 헤더로 판별한 형식 그대로 저장하며 같은 내용이 이미 있으면 쓰기를 생략합니다.
+ * 임시 파일은 파생 이미지 생성이 끝날 때까지 자리와 함께 유지합니다.
+ * 업로드가 실패하거나 시간 초과되거나 시작되지 못하면 아티스트를 UPLOAD_FAILED 로 기록하고 임시 파일을 삭제합니다.
+ */
+@Service
+public class ImageUploadServiceImpl implements ImageUploadService {
+
+    private final Logger log = LoggerFactory.getLogger(ImageUploadServiceImpl.class);
+
+    private final GCSService gcsService;
+
+    private final ArtistService artistService;
+
+    private final ImageResizer imageResizer;
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    private final ImageUploadMetersService imageUploadMetersService;
+
+    private final Semaphore slots;
+
+    private final int capacity;
+
+    private final long timeoutMs;
+
+    private final ExecutorService uploader;
+
+    private final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(
+        new CustomizableThreadFactory("image-upload-watchdog-")
+    );
+
+    public ImageUploadServiceImpl(
+        GCSService gcsService,
+        ArtistService artistService,
+        ImageResizer imageResizer,
+        ImageDerivativeService imageDerivativeService,
+        ImageUploadMetersService imageUploadMetersService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.gcsService = gcsService;
+        this.artistService = artistService;
+        this.imageResizer = imageResizer;
+        this.imageDerivativeService = imageDerivativeService;
+        this.imageUploadMetersService = imageUploadMetersService;
+        ApplicationProperties.ImageUpload properties = applicationProperties.getImageUpload();
+        this.capacity = properties.getConcurrency() + properties.getQueueCapacity();
+        this.slots = new Semaphore(capacity);
+        this.timeoutMs = properties.getTimeoutMs();
+        this.uploader = Executors.newFixedThreadPool(properties.getConcurrency(), new CustomizableThreadFactory("image-upload-"));
+        imageUploadMetersService.registerInFlight(() -> capacity - slots.availablePermits());
+    }
+
+    /**
+     * 진행 중인 업로드를 timeoutMs 동안 기다리고, 시작하지 못한 업로드는 실패로 기록한 뒤 임시 파일을 삭제합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        uploader.shutdown();
+        if (!uploader.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+            log.warn("Image uploads did not finish in time");
+            for (Runnable task : uploader.shutdownNow()) {
+                if (task instanceof UploadTask) {
+                    ((UploadTask) task).abandon();
+                }
+            }
+        }
+        watchdog.shutdownNow();
+    }
+
+    @Override
+    public Optional<Path> stage(MultipartFile imageFile) throws IOException {
+        if (!slots.tryAcquire()) {
+            imageUploadMetersService.trackRejected();
+            return Optional.empty();
+        }
+        Path stagedFile = null;
+        try {
+            stagedFile = Files.createTempFile("artist-image-", ".upload");
+            imageFile.transferTo(stagedFile);
+            if (imageResizer.detect(stagedFile).isEmpty()) {
+                throw new UnsupportedImageFormatException("Unsupported image format : " + imageFile.getOriginalFilename());
+            }
+            return Optional.of(stagedFile);
+        } catch (IOException | RuntimeException e) {
+            if (stagedFile != null) {
+                discard(stagedFile);
+            } else {
+                slots.release();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void upload(Long artistId, Path stagedFile) {
+        UploadTask task = new UploadTask(artistId, stagedFile, System.nanoTime());
+        try {
+            uploader.execute(task);
+        } catch (RuntimeException e) {
+            log.error("Failed to schedule image upload for Artist : {}", artistId, e);
+            task.abandon();
+        }
+    }
+
+    @Override
+    public void discard(Path stagedFile) {
+        try {
+            Files.deleteIfExists(stagedFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete staged image : {}", stagedFile, e);
+        } finally {
+            slots.release();
+        }
+    }
+
+    private void run(Long artistId, Path stagedFile, long start) {
+        Timeout timeout = new Timeout(Thread.currentThread());
+        ScheduledFuture<?> expiry = null;
+        boolean handedOff = false;
+        boolean failed = true;
+        try {
+            expiry = watchdog.schedule(timeout::expire, timeoutMs, TimeUnit.MILLISECONDS);
+            ImageFormat format = imageResizer
+                .detect(stagedFile)
+                .orElseThrow(() -> new UnsupportedImageFormatException("Unsupported image format"));
+            ImageDigest digest = gcsService.digestOf(stagedFile);
+            String objectName = digest.getSha256() + "." + format.getSuffix();
+            Optional<String> existing = gcsService.findImage(objectName);
+            String imgUrl;
+            if (existing.isPresent()) {
+                imgUrl = existing.get();
+                imageUploadMetersService.trackDeduplicated();
+            } else {
+                try (InputStream content = Files.newInputStream(stagedFile)) {
+                    imgUrl = gcsService.uploadImageToGCS(objectName, format.getContentType(), digest.getMd5(), content);
+                }
+            }
+            if (!timeout.complete()) {
+                throw new InterruptedIOException("Image upload timed out");
+            }
+            artistService.modifyImgUrl(artistId, imgUrl);
+            failed = false;
+            imageUploadMetersService.trackSuccess(System.nanoTime() - start);
+            imageDerivativeService.generate(artistId, digest.getSha256(), stagedFile, () -> discard(stagedFile));
+            handedOff = true;
+        } catch (IOException | RuntimeException e) {
+            if (timeout.complete()) {
+                log.error("Failed to upload image for Artist : {}", artistId, e);
+                imageUploadMetersService.trackFailure(System.nanoTime() - start);
+            } else {
+                log.error("Image upload for Artist {} timed out after {} ms", artistId, timeoutMs);
+                imageUploadMetersService.trackTimeout(System.nanoTime() - start);
+            }
+        } finally {
+            if (expiry != null) {
+                expiry.cancel(false);
+            }
+            Thread.interrupted();
+            try {
+                if (failed) {
+                    markFailed(artistId);
+                }
+            } finally {
+                if (!handedOff) {
+                    discard(stagedFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * 업로드하지 못한 아티스트를 실패 상태로 기록합니다. 클라이언트는 이 상태로 업로드 중과 실패를 구분합니다.
+     */
+    private void markFailed(Long artistId) {
+        try {
+            artistService.markImageUploadFailed(artistId);
+        } catch (RuntimeException e) {
+            log.error("Failed to record image upload failure of Artist : {}", artistId, e);
+        }
+    }
+
+    /**
+     * upload 단계에 맡긴 업로드. 시작하지 못하고 버려지면 실패로 기록하고 임시 파일을 삭제합니다.
+     */
+    private final class UploadTask implements Runnable {
+
+        private final Long artistId;
+
+        private final Path stagedFile;
+
+        private final long start;
+
+        UploadTask(Long artistId, Path stagedFile, long start) {
+            this.artistId = artistId;
+            this.stagedFile = stagedFile;
+            this.start = start;
+        }
+
+        @Override
+        public void run() {
+            ImageUploadServiceImpl.this.run(artistId, stagedFile, start);
+        }
+
+        void abandon() {
+            imageUploadMetersService.trackFailure(System.nanoTime() - start);
+            try {
+                markFailed(artistId);
+            } finally {
+                discard(stagedFile);
+            }
+        }
+    }
+
+    /**
+     * 업로드 완료와 시간 초과 중 먼저 일어난 쪽만 반영합니다.
+     * interrupt 는 완료 전에만 전달되므로 다음 업로드 작업으로 새어 나가지 않습니다.
+     */
+    private static final class Timeout {
+
+        private final Thread worker;
+
+        private boolean done;
+
+        private boolean expired;
+
+        Timeout(Thread worker) {
+            this.worker = worker;
+        }
+
+        synchronized void expire() {
+            if (!done) {
+                done = true;
+                expired = true;
+                worker.interrupt();
+            }
+        }
+
+        /**
+         * @return 시간 초과 전에 완료되었으면 true
+         */
+        synchronized boolean complete() {
+            done = true;
+            return !expired;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.artbridge.artist.application.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 아티스트별 좋아요 수를 메모리에서 집계하고, 주기적으로 artist.like_count 컬럼에 반영하는 서비스.
+ */
+public interface LikeCounterService {
+
+    /**
+     * 아티스트의 좋아요 수를 조회합니다. jhi_like 테이블을 조회하지 않습니다.
+     *
+     * @param artistId 아티스트 ID (Long)
+     * @return 좋아요 수 (long)
+     */
+    long getCount(Long artistId);
+
+    /**
+     * 여러 아티스트의 좋아요 수를 조회합니다. 메모리에 없는 아티스트는 한 번의 쿼리로 적재합니다.
+     *
+     * @param artistIds 아티스트 ID 목록
+     * @return 아티스트 ID - 좋아요 수, 없는 아티스트는 0
+     */
+    Map<Long, Long> getCounts(Collection<Long> artistIds);
+
+    /**
+     * 아티스트의 좋아요 수를 증감합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param artistId 아티스트 ID (Long)
+     * @param delta    증감분 (long)
+     */
+    void add(Long artistId, long delta);
+
+    /**
+     * 메모리에 누적된 증감분을 artist.like_count 컬럼에 batch 로 반영합니다.
+     */
+    void flush();
+
+    /**
+     * jhi_like 테이블 기준으로 like_count 를 재계산하고 메모리 카운터를 다시 적재합니다.
+     */
+    void reconcile();
+}
@@ -0,0 +1,300 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.repository.ArtistLikeCountRepository;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for {@link LikeCounterService}.
+ * <p>
+ * 아티스트별로 마지막에 읽은 artist.like_count 값({@code totals})과 이 노드에서 아직 DB 에 반영하지 않은
+ * 증감분({@code pending}, {@link LongAdder})을 따로 관리하고, 조회 시 두 값을 더해 O(1) 로 응답합니다.
+ * 읽어 둔 like_count 는 refreshIntervalMs 가 지나면 다시 읽으므로 다른 노드가 flush 한 증감분도 그 안에 반영됩니다.
+ * <p>
+ * flush 와 reconcile 은 증감분을 reset 하지 않고 반영한 만큼만 빼므로(snapshot-and-subtract),
+ * DB 작업 중에 들어온 증감분은 잃거나 두 번 세지 않습니다.
+ * <p>
+ * flush 는 반영한 증감분을 {@code totals} 의 lock 안에서 읽어 둔 like_count 로 옮깁니다. 아티스트별 epoch 는 flush 가 시작할 때와
+ * 옮길 때 하나씩 증가하므로 홀수이면 flush 중입니다. 조회는 DB 를 읽기 전의 epoch 가 짝수이고 그대로일 때만 읽은 값을 보관하므로,
+ * flush 이전에 읽은 값이 나중에 덮어쓰거나 반영 여부를 알 수 없는 값이 보관되지 않습니다.
+ */
+@Service
+public class LikeCounterServiceImpl implements LikeCounterService {
+
+    private final Logger log = LoggerFactory.getLogger(LikeCounterServiceImpl.class);
+
+    private final ConcurrentHashMap<Long, StoredCount> totals = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<Long, AtomicLong> epochs = new ConcurrentHashMap<>();
+
+    private final ArtistLikeCountRepository artistLikeCountRepository;
+
+    private final ApplicationProperties.LikeCounter properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeCounterServiceImpl(
+        ArtistLikeCountRepository artistLikeCountRepository,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.artistLikeCountRepository = artistLikeCountRepository;
+        this.properties = applicationProperties.getLikeCounter();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 애플리케이션 기동 시 like_count 가 비어 있는 아티스트를 초기화하고 메모리 카운터를 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void initialize() {
+        int initialized = transactionTemplate.execute(status -> artistLikeCountRepository.initializeNullLikeCounts());
+        log.debug("Initialized like_count of {} artists", initialized);
+        reload();
+    }
+
+    @Override
+    public long getCount(Long artistId) {
+        return countOf(artistId, true);
+    }
+
+    @Override
+    public Map<Long, Long> getCounts(Collection<Long> artistIds) {
+        List<Long> missing = artistIds
+            .stream()
+            .filter(id -> {
+                StoredCount stored = totals.get(id);
+                return stored == null || stored.isExpired();
+            })
+            .distinct()
+            .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            Map<Long, Long> missingEpochs = new HashMap<>();
+            missing.forEach(artistId -> missingEpochs.put(artistId, epochOf(artistId)));
+            artistLikeCountRepository
+                .findLikeCounts(missing)
+                .forEach((artistId, likeCount) -> keep(artistId, store(likeCount, missingEpochs.get(artistId))));
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        // 없는 아티스트와 보관되지 못한 값만 한 건씩 다시 읽습니다.
+        artistIds.forEach(artistId -> counts.put(artistId, countOf(artistId, false)));
+        return counts;
+    }
+
+    @Override
+    public void add(Long artistId, long delta) {
+        if (artistId == null || delta == 0) {
+            return;
+        }
+        AfterCommit.run(() -> apply(artistId, delta));
+    }
+
+    /**
+     * 증감분을 읽어 DB 에 반영하고, 커밋된 뒤에 반영한 만큼을 증감분에서 읽어 둔 like_count 로 옮깁니다.
+     * 반영에 실패하면 증감분은 그대로 남아 다음 flush 에서 다시 시도됩니다.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${application.like-counter.flush-interval-ms:5000}")
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void flush() {
+        Map<Long, Long> deltas = snapshot();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        advance(deltas);
+        transactionTemplate.executeWithoutResult(status -> artistLikeCountRepository.addLikeCounts(deltas, properties.getFlushBatchSize()));
+        deltas.forEach((artistId, delta) -> applied(artistId, delta, true));
+        log.debug("Flushed like count deltas of {} artists", deltas.size());
+    }
+
+    /**
+     * jhi_like 기준으로 like_count 를 재계산합니다. 재계산 직전의 증감분은 jhi_like 에 이미 커밋된 좋아요이므로
+     * 재계산이 커밋된 뒤 그만큼만 빼고, 재계산 중에 들어온 증감분은 남겨 다음 flush 에서 반영합니다.
+     * 다른 노드의 증감분은 먼저 flush 되도록 각 노드가 같은 cron 으로 실행합니다.
+     */
+    @Override
+    @Scheduled(cron = "${application.like-counter.reconcile-cron:0 0 4 * * *}")
+    public synchronized void reconcile() {
+        log.debug("Request to reconcile like counts");
+        flush();
+        Map<Long, Long> deltas = snapshot();
+        advance(deltas);
+        int reconciled = transactionTemplate.execute(status -> artistLikeCountRepository.reconcileLikeCounts());
+        deltas.forEach((artistId, delta) -> applied(artistId, delta, false));
+        log.info("Reconciled like_count of {} artists", reconciled);
+        reload();
+    }
+
+    private void reload() {
+        Map<Long, Long> likeCounts = artistLikeCountRepository.findAllLikeCounts();
+        likeCounts.forEach((artistId, likeCount) -> totals.put(artistId, store(likeCount, epochOf(artistId))));
+        totals.keySet().retainAll(likeCounts.keySet());
+        log.debug("Loaded like counts of {} artists", likeCounts.size());
+    }
+
+    private void apply(Long artistId, long delta) {
+        pending.computeIfAbsent(artistId, id -> new LongAdder()).add(delta);
+    }
+
+    private Map<Long, Long> snapshot() {
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach((artistId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                deltas.put(artistId, delta);
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * DB 작업을 시작하기 전에 epoch 를 홀수로 올려, 그 전에 읽기 시작한 조회와 작업 중에 읽은 값이 보관되지 않게 합니다.
+     */
+    private void advance(Map<Long, Long> deltas) {
+        deltas.keySet().forEach(artistId -> epochs.computeIfAbsent(artistId, id -> new AtomicLong()).incrementAndGet());
+    }
+
+    /**
+     * 커밋된 증감분을 증감분에서 빼고 읽어 둔 like_count 에 더한 새 값을 넣습니다. {@code totals} 의 lock 안에서 epoch 를 다시 올려
+     * 짝수로 돌려놓으므로, 그 뒤에는 이전에 시작한 조회가 값을 보관하지 못합니다.
+     * 읽어 둔 값은 flush 가 시작되기 전에 보관된 것이므로 이번 증감분을 포함하지 않습니다.
+     *
+     * @param fold false 이면 읽어 둔 값을 버리고 다음 조회에서 다시 읽습니다.
+     */
+    private void applied(Long artistId, long delta, boolean fold) {
+        totals.compute(
+            artistId,
+            (id, stored) -> {
+                epochs.get(id).incrementAndGet();
+                pending.get(id).add(-delta);
+                return fold && stored != null ? stored.plus(delta) : null;
+            }
+        );
+    }
+
+    /**
+     * 조회한 값을 보관합니다. 조회 전에 flush 중이었거나 그 사이 epoch 가 바뀌었으면 보관하지 않습니다.
+     */
+    private void keep(Long artistId, StoredCount loaded) {
+        totals.compute(
+            artistId,
+            (id, stored) -> {
+                if (isFlushing(loaded.epoch) || epochOf(id) != loaded.epoch) {
+                    return stored;
+                }
+                return stored == null ? loaded : StoredCount.newer(stored, loaded);
+            }
+        );
+    }
+
+    /**
+     * 읽어 둔 like_count 와 증감분을 더합니다. flush 는 증감분을 뺀 뒤에 새 값을 {@code totals} 에 넣으므로,
+     * 더하는 동안 {@code totals} 의 값이 바뀌지 않았을 때만 두 값이 같은 시점의 것입니다. 바뀌었으면 다시 읽습니다.
+     * 읽어 둔 값이 없으면 DB 에서 읽어 보관한 뒤 다시 시도합니다. 보관되지 못한 값은 flush 와 겹쳤을 수 있으므로 응답에 쓰지 않고,
+     * 해당 아티스트를 flush 하는 중이면 끝날 때까지 기다립니다.
+     *
+     * @param refresh true 이면 refreshIntervalMs 가 지난 값도 다시 읽습니다.
+     */
+    private long countOf(Long artistId, boolean refresh) {
+        while (true) {
+            StoredCount stored = totals.get(artistId);
+            if (stored == null || (refresh && stored.isExpired())) {
+                // 조회는 ConcurrentHashMap 의 lock 밖에서 하고, 그 사이 flush 가 없었을 때만 보관합니다.
+                long epoch = epochOf(artistId);
+                if (isFlushing(epoch)) {
+                    awaitFlush();
+                    continue;
+                }
+                Optional<Long> likeCount = artistLikeCountRepository.findLikeCount(artistId);
+                if (likeCount.isEmpty()) {
+                    return 0L;
+                }
+                keep(artistId, store(likeCount.get(), epoch));
+                refresh = false;
+                continue;
+            }
+            long count = stored.likeCount + pendingOf(artistId);
+            if (totals.get(artistId) == stored) {
+                return count;
+            }
+        }
+    }
+
+    private static boolean isFlushing(long epoch) {
+        return (epoch & 1L) != 0;
+    }
+
+    /**
+     * flush 와 reconcile 은 이 객체의 monitor 를 잡고 실행되므로, monitor 를 얻으면 진행 중이던 작업이 끝난 것입니다.
+     */
+    private void awaitFlush() {
+        synchronized (this) {
+            log.trace("Waited for like count flush");
+        }
+    }
+
+    private long epochOf(Long artistId) {
+        AtomicLong epoch = epochs.get(artistId);
+        return epoch == null ? 0L : epoch.get();
+    }
+
+    private long pendingOf(Long artistId) {
+        LongAdder adder = pending.get(artistId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    private StoredCount store(long likeCount, long epoch) {
+        return new StoredCount(likeCount, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getRefreshIntervalMs()), epoch);
+    }
+
+    /**
+     * DB 에서 읽은 like_count 와 다시 읽어야 하는 시각, 읽기 전의 epoch.
+     */
+    private static final class StoredCount {
+
+        private final long likeCount;
+
+        private final long expiresAt;
+
+        private final long epoch;
+
+        StoredCount(long likeCount, long expiresAt, long epoch) {
+            this.likeCount = likeCount;
+            this.expiresAt = expiresAt;
+            this.epoch = epoch;
+        }
+
+        StoredCount plus(long delta) {
+            return new StoredCount(likeCount + delta, expiresAt, epoch);
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+
+        static StoredCount newer(StoredCount a, StoredCount b) {
+            return b.expiresAt - a.expiresAt > 0 ? b : a;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.artbridge.artist.application.service;
 
+import com.artbridge.artist.application.exception.ArtistNotFoundException;
 import com.artbridge.artist.domain.model.Like;
 import com.artbridge.artist.application.dto.LikeDTO;
+import com.artbridge.artist.application.dto.MemberDTO;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,10 +14,11 @@ import org.springframework.data.domain.Pageable;
 public interface LikeService {
 
     /**
-     * 좋아요 정보를 저장합니다.
+     * 좋아요 정보를 저장합니다. 이미 같은 아티스트에 좋아요한 회원이면 새로 저장하지 않고 기존 좋아요를 돌려줍니다.
      *
      * @param likeDTO 저장할 좋아요 정보 (LikeDTO)
      * @return 저장된 좋아요 정보 (LikeDTO)
+     * @throws ArtistNotFoundException 좋아요할 아티스트가 없는 경우
      */
     LikeDTO save(LikeDTO likeDTO);
 
@@ -74,4 +77,16 @@ public interface LikeService {
      */
     void delete(Long artistId, Long memberId);
 
+    /**
+     * 회원의 좋아요 상태를 주어진 값으로 맞춥니다. 같은 요청을 반복해도 결과가 같습니다.
+     * 상태가 실제로 바뀐 경우에만 좋아요 수가 변경됩니다.
+     *
+     * @param artistId 아티스트 ID (Long)
+     * @param member   좋아요를 누른 회원 (MemberDTO)
+     * @param liked    true 이면 좋아요, false 이면 좋아요 취소
+     * @return 상태가 실제로 바뀌었으면 true
+     * @throws ArtistNotFoundException 좋아요할 아티스트가 없는 경우
+     */
+    boolean setLiked(Long artistId, MemberDTO member, boolean liked);
+
 }
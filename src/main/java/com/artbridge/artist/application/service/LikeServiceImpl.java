@@ -1,15 +1,24 @@
 package com.artbridge.artist.application.service;
 
+import com.artbridge.artist.domain.model.Artist;
 import com.artbridge.artist.domain.model.Like;
+import com.artbridge.artist.application.exception.ArtistNotFoundException;
+import com.artbridge.artist.infrastructure.repository.ArtistRepository;
 import com.artbridge.artist.infrastructure.repository.LikeRepository;
+import com.artbridge.artist.infrastructure.repository.LikeToggleRepository;
 import com.artbridge.artist.application.dto.LikeDTO;
+import com.artbridge.artist.application.dto.MemberDTO;
 import com.artbridge.artist.application.mapper.LikeMapper;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -25,25 +34,67 @@ public class LikeServiceImpl implements LikeService {
 
     private final LikeMapper likeMapper;
 
-    public LikeServiceImpl(LikeRepository likeRepository, LikeMapper likeMapper) {
+    private final LikeCounterService likeCounterService;
+
+    private final LikeToggleRepository likeToggleRepository;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final LikedArtistIndexService likedArtistIndexService;
+
+    private final ArtistRepository artistRepository;
+
+    public LikeServiceImpl(
+        LikeRepository likeRepository,
+        LikeMapper likeMapper,
+        LikeCounterService likeCounterService,
+        LikeToggleRepository likeToggleRepository,
+        EntityManagerFactory entityManagerFactory,
+        LikedArtistIndexService likedArtistIndexService,
+        ArtistRepository artistRepository
+    ) {
         this.likeRepository = likeRepository;
         this.likeMapper = likeMapper;
+        this.likeCounterService = likeCounterService;
+        this.likeToggleRepository = likeToggleRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.likedArtistIndexService = likedArtistIndexService;
+        this.artistRepository = artistRepository;
     }
 
+    /**
+     * 아티스트와 회원이 모두 있으면 좋아요 토글과 같은 조건 INSERT 로 저장하므로, 이미 좋아요한 경우에도
+     * unique 제약 오류 없이 기존 좋아요를 돌려줍니다.
+     */
     @Override
     public LikeDTO save(LikeDTO likeDTO) {
         log.debug("Request to save Like : {}", likeDTO);
+        MemberDTO member = likeDTO.getMemberDTO();
+        if (likeDTO.getArtistDTO() != null && likeDTO.getArtistDTO().getId() != null && member != null && member.getId() != null) {
+            Long artistId = likeDTO.getArtistDTO().getId();
+            like(artistId, member);
+            return likeRepository
+                .findByArtist_IdAndMember_Id(artistId, member.getId())
+                .map(likeMapper::toDto)
+                .orElseThrow(() -> new ArtistNotFoundException(artistId));
+        }
         Like like = likeMapper.toEntity(likeDTO);
         /*TODO: - Event memberDto name*/
         like = likeRepository.save(like);
+        if (like.getArtist() != null) {
+            likeCounterService.add(like.getArtist().getId(), 1);
+            likedArtistIndexService.added(memberIdOf(like), like.getArtist().getId());
+        }
         return likeMapper.toDto(like);
     }
 
     @Override
     public LikeDTO update(LikeDTO likeDTO) {
         log.debug("Request to update Like : {}", likeDTO);
+        likeRepository.findById(likeDTO.getId()).ifPresent(existingLike -> likedArtistIndexService.evict(memberIdOf(existingLike)));
         Like like = likeMapper.toEntity(likeDTO);
         like = likeRepository.save(like);
+        likedArtistIndexService.evict(memberIdOf(like));
         return likeMapper.toDto(like);
     }
 
@@ -54,7 +105,9 @@ public class LikeServiceImpl implements LikeService {
         return likeRepository
             .findById(likeDTO.getId())
             .map(existingLike -> {
+                likedArtistIndexService.evict(memberIdOf(existingLike));
                 likeMapper.partialUpdate(existingLike, likeDTO);
+                likedArtistIndexService.evict(memberIdOf(existingLike));
 
                 return existingLike;
             })
@@ -79,20 +132,73 @@ public class LikeServiceImpl implements LikeService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Like : {}", id);
-        likeRepository.deleteById(id);
+        likeRepository
+            .findById(id)
+            .ifPresent(like -> {
+                likeRepository.delete(like);
+                if (like.getArtist() != null) {
+                    likeCounterService.add(like.getArtist().getId(), -1);
+                    likedArtistIndexService.removed(memberIdOf(like), like.getArtist().getId());
+                }
+            });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long countByArtistId(Long artistId) {
-        return likeRepository.countByArtist_Id(artistId);
+        return likeCounterService.getCount(artistId);
     }
 
     @Override
     public void delete(Long artistId, Long memberId) {
         log.debug("Request to delete Like : {}", artistId);
+        unlike(artistId, memberId);
+    }
 
-        if (likeRepository.existsByArtist_IdAndMember_Id(artistId, memberId)) {
-            likeRepository.deleteByArtist_IdAndMember_Id(artistId, memberId);
+    @Override
+    public boolean setLiked(Long artistId, MemberDTO member, boolean liked) {
+        log.debug("Request to set Like of Artist {} by member {} : {}", artistId, member.getId(), liked);
+        return liked ? like(artistId, member) : unlike(artistId, member.getId());
+    }
+
+    /**
+     * jhi_like.artist_id 에 외래 키가 없는 스키마에서도 없는 아티스트에 좋아요가 남지 않도록 먼저 확인합니다.
+     */
+    private boolean like(Long artistId, MemberDTO member) {
+        if (!artistRepository.existsById(artistId)) {
+            throw new ArtistNotFoundException(artistId);
+        }
+        int inserted = likeToggleRepository.insertIfAbsent(artistId, member.getId(), member.getLogin(), member.getName());
+        if (inserted > 0) {
+            likeCounterService.add(artistId, inserted);
+            likedArtistIndexService.added(member.getId(), artistId);
+            evictLikesAfterCommit(artistId, List.of());
+        }
+        return inserted > 0;
+    }
+
+    private boolean unlike(Long artistId, Long memberId) {
+        List<Long> deleted = likeToggleRepository.delete(artistId, memberId);
+        if (!deleted.isEmpty()) {
+            likeCounterService.add(artistId, -deleted.size());
+            likedArtistIndexService.removed(memberId, artistId);
+            evictLikesAfterCommit(artistId, deleted);
         }
+        return !deleted.isEmpty();
+    }
+
+    private Long memberIdOf(Like like) {
+        return like.getMember() == null ? null : like.getMember().getId();
+    }
+
+    /**
+     * JDBC 로 변경한 좋아요는 2차 캐시를 거치지 않으므로, 커밋 이후 해당 아티스트의 likes 컬렉션과 삭제된 Like 만 비웁니다.
+     */
+    private void evictLikesAfterCommit(Long artistId, List<Long> deletedLikeIds) {
+        AfterCommit.run(() -> {
+            Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+            cache.evictCollectionData(Artist.class.getName() + ".likes", artistId);
+            deletedLikeIds.forEach(likeId -> cache.evictEntityData(Like.class, likeId));
+        });
     }
 }
@@ -0,0 +1,42 @@
+package com.artbridge.artist.application.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 회원별로 좋아요한 아티스트 ID 를 메모리에 두고 "내가 좋아요 했는지" 를 판별하는 서비스.
+ */
+public interface LikedArtistIndexService {
+
+    /**
+     * 주어진 아티스트 중 회원이 좋아요한 아티스트를 조회합니다. 회원의 인덱스가 없으면 한 번 적재합니다.
+     *
+     * @param memberId  회원 ID (Long)
+     * @param artistIds 아티스트 ID 목록
+     * @return 좋아요한 아티스트 ID
+     */
+    Set<Long> findLiked(Long memberId, Collection<Long> artistIds);
+
+    /**
+     * 좋아요 추가를 인덱스에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param memberId 회원 ID (Long)
+     * @param artistId 아티스트 ID (Long)
+     */
+    void added(Long memberId, Long artistId);
+
+    /**
+     * 좋아요 취소를 인덱스에 반영합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param memberId 회원 ID (Long)
+     * @param artistId 아티스트 ID (Long)
+     */
+    void removed(Long memberId, Long artistId);
+
+    /**
+     * 회원의 인덱스를 버리고 다음 조회 때 다시 적재합니다. 트랜잭션 안에서 호출되면 커밋 이후에 반영됩니다.
+     *
+     * @param memberId 회원 ID (Long)
+     */
+    void evict(Long memberId);
+}
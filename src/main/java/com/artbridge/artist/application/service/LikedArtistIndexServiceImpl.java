@@ -0,0 +1,367 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.management.LikedArtistIndexMetersService;
+import com.artbridge.artist.infrastructure.repository.LikeRepository;
+import com.carrotsearch.hppc.LongHashSet;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for {@link LikedArtistIndexService}.
+ * <p>
+ * 회원마다 좋아요한 아티스트 ID 를 primitive long set({@link LongHashSet})으로 보관하고, 앞에 Bloom filter 를 두어
+ * 좋아요하지 않은 아티스트(대부분의 카드)는 비트 몇 개만 확인하고 판별합니다.
+ * 회원의 인덱스는 처음 조회될 때 적재하고, 전체 ID 수가 maxIds 를 넘으면 오래 조회되지 않은 회원부터 제거합니다.
+ * 좋아요가 maxIdsPerMember 보다 많은 회원은 인덱스에 올리지 않고 요청한 아티스트만 DB 에서 조회합니다.
+ * <p>
+ * 변경은 커밋 이후 이 노드의 인덱스에 바로 반영하고, 다른 노드에는 Hazelcast topic 으로 알려 해당 회원을 다시 적재하게 합니다.
+ * 적재는 stamp 를 먼저 읽고 별도 트랜잭션에서 하며, 적재 중에 같은 회원의 변경이 커밋되면 적재한 결과는 보관하지 않습니다.
+ */
+@Service
+public class LikedArtistIndexServiceImpl implements LikedArtistIndexService {
+
+    private static final String INVALIDATION_TOPIC = "artist.liked-index.invalidations";
+
+    private static final int STAMP_STRIPES = 64;
+
+    /**
+     * 좋아요가 너무 많아 인덱스에 올리지 않는 회원의 표시.
+     */
+    private static final LikedArtistIds OVERSIZED = new LikedArtistIds(new long[0], 1);
+
+    private final Logger log = LoggerFactory.getLogger(LikedArtistIndexServiceImpl.class);
+
+    private final LikeRepository likeRepository;
+
+    private final LikedArtistIndexMetersService likedArtistIndexMetersService;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final ConcurrentHashMap<Long, LikedArtistIds> members = new ConcurrentHashMap<>();
+
+    private final AtomicLong totalIds = new AtomicLong();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    private final long maxIds;
+
+    private final int maxIdsPerMember;
+
+    private final int bloomBitsPerId;
+
+    private final TransactionTemplate loadTransactionTemplate;
+
+    private ITopic<Long> invalidations;
+
+    public LikedArtistIndexServiceImpl(
+        LikeRepository likeRepository,
+        LikedArtistIndexMetersService likedArtistIndexMetersService,
+        HazelcastInstance hazelcastInstance,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.likeRepository = likeRepository;
+        this.likedArtistIndexMetersService = likedArtistIndexMetersService;
+        this.hazelcastInstance = hazelcastInstance;
+        ApplicationProperties.LikedIndex properties = applicationProperties.getLikedIndex();
+        this.maxIds = properties.getMaxIds();
+        this.maxIdsPerMember = properties.getMaxIdsPerMember();
+        this.bloomBitsPerId = properties.getBloomBitsPerId();
+        this.loadTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.loadTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransactionTemplate.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        likedArtistIndexMetersService.registerSize(members::size, totalIds::get);
+        invalidations = hazelcastInstance.getTopic(INVALIDATION_TOPIC);
+        invalidations.addMessageListener(message -> {
+            if (!message.getPublishingMember().localMember()) {
+                discard(message.getMessageObject());
+            }
+        });
+    }
+
+    @Override
+    public Set<Long> findLiked(Long memberId, Collection<Long> artistIds) {
+        if (memberId == null || artistIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        LikedArtistIds likedArtistIds = members.get(memberId);
+        if (likedArtistIds == null) {
+            likedArtistIds = load(memberId);
+        }
+        if (likedArtistIds == OVERSIZED) {
+            likedArtistIndexMetersService.trackFallback(artistIds.size());
+            return likeRepository.findLikedArtistIds(memberId, artistIds);
+        }
+
+        likedArtistIds.touch();
+        Set<Long> liked = new HashSet<>();
+        int bloomNegatives = 0;
+        for (Long artistId : artistIds) {
+            if (artistId == null || !likedArtistIds.mightContain(artistId)) {
+                bloomNegatives++;
+            } else if (likedArtistIds.contains(artistId)) {
+                liked.add(artistId);
+            }
+        }
+        likedArtistIndexMetersService.trackLookups(bloomNegatives, artistIds.size() - bloomNegatives);
+        return liked;
+    }
+
+    @Override
+    public void added(Long memberId, Long artistId) {
+        afterCommit(memberId, () -> members.computeIfPresent(memberId, (id, likedArtistIds) -> add(likedArtistIds, artistId)));
+    }
+
+    @Override
+    public void removed(Long memberId, Long artistId) {
+        afterCommit(memberId, () -> members.computeIfPresent(memberId, (id, likedArtistIds) -> remove(likedArtistIds, artistId)));
+    }
+
+    @Override
+    public void evict(Long memberId) {
+        afterCommit(memberId, () -> discard(memberId));
+    }
+
+    private void afterCommit(Long memberId, Runnable change) {
+        if (memberId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            stamps.incrementAndGet(stripe(memberId));
+            change.run();
+            invalidations.publish(memberId);
+        });
+    }
+
+    /**
+     * 회원의 인덱스를 적재합니다. 호출한 트랜잭션의 snapshot 은 stamp 를 읽기 전에 고정되었을 수 있으므로
+     * stamp 를 먼저 읽고 새 트랜잭션에서 조회합니다. 조회하는 동안 같은 회원의 변경이 커밋되었으면 stamp 가 바뀌므로
+     * 적재한 결과는 이번 요청에만 쓰고 보관하지 않습니다. stamp 비교와 보관은 변경 반영과 같은 key lock 안에서 합니다.
+     */
+    private LikedArtistIds load(Long memberId) {
+        int stripe = stripe(memberId);
+        long stamp = stamps.get(stripe);
+        List<Long> artistIds = loadTransactionTemplate.execute(status ->
+            likeRepository.findAllLikedArtistIds(memberId, PageRequest.of(0, maxIdsPerMember + 1))
+        );
+        likedArtistIndexMetersService.trackLoad();
+        if (artistIds.size() > maxIdsPerMember) {
+            log.debug("Member {} has more than {} likes, using per-request queries", memberId, maxIdsPerMember);
+            members.putIfAbsent(memberId, OVERSIZED);
+            return OVERSIZED;
+        }
+
+        long[] ids = artistIds.stream().mapToLong(Long::longValue).toArray();
+        LikedArtistIds loaded = new LikedArtistIds(ids, bloomBitsPerId);
+        boolean[] published = new boolean[1];
+        LikedArtistIds current = members.compute(
+            memberId,
+            (id, existing) -> {
+                if (existing != null || stamps.get(stripe) != stamp) {
+                    return existing;
+                }
+                published[0] = true;
+                return loaded;
+            }
+        );
+        if (!published[0]) {
+            return current == null ? loaded : current;
+        }
+        if (totalIds.addAndGet(loaded.size()) > maxIds) {
+            evictColdMembers();
+        }
+        return loaded;
+    }
+
+    private LikedArtistIds add(LikedArtistIds likedArtistIds, Long artistId) {
+        if (likedArtistIds == OVERSIZED) {
+            return likedArtistIds;
+        }
+        if (likedArtistIds.size() >= maxIdsPerMember) {
+            totalIds.addAndGet(-likedArtistIds.size());
+            return OVERSIZED;
+        }
+        if (likedArtistIds.add(artistId)) {
+            totalIds.incrementAndGet();
+        }
+        return likedArtistIds.needsResize() ? likedArtistIds.resized(bloomBitsPerId) : likedArtistIds;
+    }
+
+    private LikedArtistIds remove(LikedArtistIds likedArtistIds, Long artistId) {
+        if (likedArtistIds != OVERSIZED && likedArtistIds.remove(artistId)) {
+            totalIds.decrementAndGet();
+        }
+        return likedArtistIds;
+    }
+
+    private void discard(Long memberId) {
+        stamps.incrementAndGet(stripe(memberId));
+        LikedArtistIds removed = members.remove(memberId);
+        if (removed != null) {
+            totalIds.addAndGet(-removed.size());
+        }
+    }
+
+    /**
+     * 전체 ID 수가 maxIds 의 90% 이하가 될 때까지 마지막 조회 시각이 오래된 회원부터 제거합니다.
+     */
+    private synchronized void evictColdMembers() {
+        long target = maxIds - maxIds / 10;
+        if (totalIds.get() <= maxIds) {
+            return;
+        }
+        // lastAccess 는 정렬 중에도 바뀌므로, 한 번 읽어 둔 값으로 정렬해야 비교 결과가 일관됩니다.
+        List<ColdCandidate> candidates = new ArrayList<>(members.size());
+        members.forEach((memberId, ids) -> candidates.add(new ColdCandidate(memberId, ids.lastAccess, ids)));
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.lastAccess));
+        int evicted = 0;
+        for (ColdCandidate candidate : candidates) {
+            if (totalIds.get() <= target) {
+                break;
+            }
+            if (members.remove(candidate.memberId, candidate.ids)) {
+                totalIds.addAndGet(-candidate.ids.size());
+                evicted++;
+            }
+        }
+        likedArtistIndexMetersService.trackEvictions(evicted);
+        log.debug("Evicted {} members from the liked artist index", evicted);
+    }
+
+    private static int stripe(Long memberId) {
+        return (int) (mix(memberId) & (STAMP_STRIPES - 1));
+    }
+
+    /**
+     * SplitMix64 finalizer. 연속된 ID 도 고르게 흩어지도록 섞습니다.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * 제거 대상을 고를 때 읽어 둔 회원의 마지막 조회 시각.
+     */
+    private static final class ColdCandidate {
+
+        private final Long memberId;
+
+        private final long lastAccess;
+
+        private final LikedArtistIds ids;
+
+        ColdCandidate(Long memberId, long lastAccess, LikedArtistIds ids) {
+            this.memberId = memberId;
+            this.lastAccess = lastAccess;
+            this.ids = ids;
+        }
+    }
+
+    /**
+     * 한 회원이 좋아요한 아티스트 ID. Bloom filter 로 음성 판별을 먼저 하고, 양성일 때만 set 을 확인합니다.
+     * Bloom filter 는 적재 시점 크기의 두 배까지 커지면 다시 만듭니다. 삭제된 ID 의 비트는 남지만 set 확인으로 걸러집니다.
+     */
+    private static final class LikedArtistIds {
+
+        private final LongHashSet ids;
+
+        private final long[] bloom;
+
+        private final int bloomMask;
+
+        private final int hashes;
+
+        private final int capacity;
+
+        private volatile long lastAccess = System.nanoTime();
+
+        LikedArtistIds(long[] artistIds, int bitsPerId) {
+            this.capacity = Math.max(16, artistIds.length);
+            int bits = Integer.highestOneBit(Math.max(64, capacity * bitsPerId - 1)) << 1;
+            this.bloom = new long[bits >>> 6];
+            this.bloomMask = bits - 1;
+            this.hashes = Math.max(1, (int) Math.round(bitsPerId * Math.log(2)));
+            this.ids = new LongHashSet(artistIds.length);
+            for (long artistId : artistIds) {
+                add(artistId);
+            }
+        }
+
+        void touch() {
+            lastAccess = System.nanoTime();
+        }
+
+        synchronized int size() {
+            return ids.size();
+        }
+
+        synchronized boolean needsResize() {
+            return ids.size() > capacity * 2;
+        }
+
+        synchronized LikedArtistIds resized(int bitsPerId) {
+            LikedArtistIds resized = new LikedArtistIds(ids.toArray(), bitsPerId);
+            resized.lastAccess = lastAccess;
+            return resized;
+        }
+
+        synchronized boolean add(long artistId) {
+            long hash = mix(artistId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                bloom[bit >>> 6] |= 1L << bit;
+            }
+            return ids.add(artistId);
+        }
+
+        synchronized boolean remove(long artistId) {
+            return ids.remove(artistId);
+        }
+
+        synchronized boolean mightContain(long artistId) {
+            long hash = mix(artistId);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                int bit = (h1 + i * h2) & bloomMask;
+                if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        synchronized boolean contains(long artistId) {
+            return ids.contains(artistId);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.domain.model.MemberNameOutbox;
+
+/**
+ * Service Interface for managing {@link MemberNameOutbox}.
+ */
+public interface MemberNameOutboxService {
+
+    /**
+     * 호출한 서비스의 트랜잭션 안에서 회원 이름 요청을 outbox 에 기록합니다.
+     * 트랜잭션이 롤백되면 요청도 함께 사라집니다.
+     *
+     * @param memberId 이름을 요청할 회원 ID (Long)
+     */
+    void enqueue(Long memberId);
+
+    /**
+     * outbox 에 쌓인 요청을 batch 로 선점해 Kafka 로 발행하고, 발행에 성공한 row 를 삭제합니다.
+     *
+     * @return 발행에 성공한 outbox row 수
+     */
+    int relay();
+}
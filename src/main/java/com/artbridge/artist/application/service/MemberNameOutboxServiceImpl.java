@@ -0,0 +1,176 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.domain.model.MemberNameOutbox;
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.management.MemberOutboxMetersService;
+import com.artbridge.artist.infrastructure.messaging.MemberProducer;
+import com.artbridge.artist.infrastructure.repository.MemberNameOutboxRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service Implementation for managing {@link MemberNameOutbox}.
+ * <p>
+ * 서비스 트랜잭션은 outbox row 만 기록하고 바로 커밋하므로 broker 지연이 DB 커넥션 점유 시간에 포함되지 않습니다.
+ * relay 는 짧은 트랜잭션으로 batch 를 선점한 뒤 트랜잭션 밖에서 같은 회원에 대한 요청을 하나로 합쳐
+ * 최대 maxInFlight 개까지 동시에 발행하고, broker 가 응답한 요청만 별도의 짧은 트랜잭션으로 삭제합니다(at-least-once).
+ * 발행에 실패한 요청은 선점을 풀어 다음 relay 가 다시 시도하며, relay 가 도중에 종료되면 claimTimeoutMs 후에 다시 선점됩니다.
+ */
+@Service
+@Transactional
+public class MemberNameOutboxServiceImpl implements MemberNameOutboxService {
+
+    private final Logger log = LoggerFactory.getLogger(MemberNameOutboxServiceImpl.class);
+
+    private final MemberNameOutboxRepository memberNameOutboxRepository;
+
+    private final MemberProducer memberProducer;
+
+    private final MemberOutboxMetersService memberOutboxMetersService;
+
+    private final ApplicationProperties.MemberOutbox properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberNameOutboxServiceImpl(
+        MemberNameOutboxRepository memberNameOutboxRepository,
+        MemberProducer memberProducer,
+        MemberOutboxMetersService memberOutboxMetersService,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.memberNameOutboxRepository = memberNameOutboxRepository;
+        this.memberProducer = memberProducer;
+        this.memberOutboxMetersService = memberOutboxMetersService;
+        this.properties = applicationProperties.getMemberOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long memberId) {
+        log.debug("Request to enqueue MemberName request : {}", memberId);
+        memberNameOutboxRepository.save(new MemberNameOutbox().memberId(memberId));
+        memberOutboxMetersService.trackEnqueued();
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.member-outbox.poll-interval-ms:1000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int relay() {
+        List<MemberNameOutbox> batch = this.claim();
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+
+        Map<Long, List<Long>> outboxIdsByMember = new LinkedHashMap<>();
+        batch.forEach(outbox -> outboxIdsByMember.computeIfAbsent(outbox.getMemberId(), id -> new ArrayList<>()).add(outbox.getId()));
+
+        Map<Long, CompletableFuture<?>> futures = this.publish(outboxIdsByMember.keySet());
+        this.await(futures.values());
+
+        List<Long> published = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+        outboxIdsByMember.forEach((memberId, outboxIds) -> {
+            CompletableFuture<?> future = futures.get(memberId);
+            if (future != null && future.isDone() && !future.isCompletedExceptionally()) {
+                published.addAll(outboxIds);
+            } else {
+                failed.addAll(outboxIds);
+            }
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                memberNameOutboxRepository.deleteByIdIn(published);
+            }
+            if (!failed.isEmpty()) {
+                memberNameOutboxRepository.releaseFailed(failed);
+            }
+        });
+        if (!failed.isEmpty()) {
+            log.warn("Failed to relay {} MemberName outbox records", failed.size());
+        }
+        memberOutboxMetersService.trackRelay(published.size(), failed.size(), System.nanoTime() - start);
+        log.debug("Relayed {} MemberName outbox records for {} members", published.size(), outboxIdsByMember.size());
+        return published.size();
+    }
+
+    /**
+     * 짧은 트랜잭션으로 batch 를 선점합니다. 선점 후 바로 커밋하므로 발행하는 동안 outbox 에 lock 이 남지 않고,
+     * 다른 인스턴스의 relay 는 선점된 row 를 기다리지 않고 건너뜁니다.
+     */
+    private List<MemberNameOutbox> claim() {
+        String claimedBy = UUID.randomUUID().toString();
+        List<MemberNameOutbox> batch = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<Long> ids = memberNameOutboxRepository.findClaimableIds(now, PageRequest.of(0, properties.getBatchSize()));
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            Instant claimedUntil = now.plusMillis(properties.getClaimTimeoutMs());
+            if (memberNameOutboxRepository.claim(ids, claimedBy, claimedUntil, now) == 0) {
+                return List.of();
+            }
+            return memberNameOutboxRepository.findByClaimedByOrderByIdAsc(claimedBy);
+        });
+        return batch == null ? List.of() : batch;
+    }
+
+    /**
+     * 최대 maxInFlight 개의 발행만 동시에 broker 응답을 기다리도록 제한하며 발행합니다.
+     */
+    private Map<Long, CompletableFuture<?>> publish(Iterable<Long> memberIds) {
+        Semaphore inFlight = new Semaphore(properties.getMaxInFlight());
+        Map<Long, CompletableFuture<?>> futures = new LinkedHashMap<>();
+        try {
+            for (Long memberId : memberIds) {
+                if (!inFlight.tryAcquire(properties.getPublishTimeoutMs(), TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+                try {
+                    CompletableFuture<?> future = memberProducer.publishMemberName(memberId).completable();
+                    future.whenComplete((result, e) -> inFlight.release());
+                    futures.put(memberId, future);
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    log.warn("Failed to publish MemberName request : {}", memberId, e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return futures;
+    }
+
+    private void await(Iterable<CompletableFuture<?>> futures) {
+        List<CompletableFuture<?>> pending = new ArrayList<>();
+        futures.forEach(pending::add);
+        try {
+            CompletableFuture.allOf(pending.toArray(new CompletableFuture[0])).get(properties.getPublishTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Some MemberName requests were not acknowledged: {}", e.getMessage());
+        }
+    }
+}
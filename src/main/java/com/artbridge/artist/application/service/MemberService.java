@@ -0,0 +1,24 @@
+package com.artbridge.artist.application.service;
+
+import java.util.Map;
+
+/**
+ * 회원 서비스에서 전달된 회원 정보를 이 서비스의 엔티티에 반영하는 Service Interface.
+ */
+public interface MemberService {
+
+    /**
+     * 회원 이름 변경을 아티스트와 댓글에 하나의 트랜잭션으로 반영합니다.
+     *
+     * @param memberId 회원 ID (long)
+     * @param name     변경된 회원 이름 (String)
+     */
+    void modifyMemberName(long memberId, String name);
+
+    /**
+     * 여러 회원의 이름 변경을 하나의 트랜잭션으로 반영합니다.
+     *
+     * @param names 회원 ID - 변경된 회원 이름
+     */
+    void modifyMemberNames(Map<Long, String> names);
+}
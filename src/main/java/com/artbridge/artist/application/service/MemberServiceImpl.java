@@ -0,0 +1,60 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.domain.model.Artist;
+import com.artbridge.artist.domain.model.Comment;
+import java.util.Collections;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service Implementation for {@link MemberService}.
+ */
+@Service
+@Transactional
+public class MemberServiceImpl implements MemberService {
+
+    private final Logger log = LoggerFactory.getLogger(MemberServiceImpl.class);
+
+    private final ArtistService artistService;
+
+    private final CommentService commentService;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public MemberServiceImpl(ArtistService artistService, CommentService commentService, EntityManagerFactory entityManagerFactory) {
+        this.artistService = artistService;
+        this.commentService = commentService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void modifyMemberName(long memberId, String name) {
+        log.debug("Request to modify member name : {}", memberId);
+        modifyMemberNames(Collections.singletonMap(memberId, name));
+    }
+
+    @Override
+    public void modifyMemberNames(Map<Long, String> names) {
+        log.debug("Request to modify member names : {}", names.keySet());
+        if (names.isEmpty()) {
+            return;
+        }
+        artistService.modifyMemberNames(names);
+        commentService.modifyMemberNames(names);
+        evictMemberNameRegionsAfterCommit();
+    }
+
+    /**
+     * JDBC batch update 는 2차 캐시를 거치지 않으므로, 커밋 이후 회원 이름을 가진 엔티티 region 을 비웁니다.
+     */
+    private void evictMemberNameRegionsAfterCommit() {
+        AfterCommit.run(() -> {
+            entityManagerFactory.getCache().evict(Artist.class);
+            entityManagerFactory.getCache().evict(Comment.class);
+        });
+    }
+}
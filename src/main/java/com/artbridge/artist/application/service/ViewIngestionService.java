@@ -0,0 +1,17 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.application.dto.ViewDTO;
+
+/**
+ * 조회(view) 이벤트를 메모리 버퍼에 적재하고 백그라운드에서 batch 로 저장하는 서비스.
+ */
+public interface ViewIngestionService {
+
+    /**
+     * 조회 이벤트를 버퍼에 추가합니다. 버퍼가 가득 찬 경우 대기하지 않고 즉시 거절합니다.
+     *
+     * @param viewDTO 저장할 조회 정보 (ViewDTO)
+     * @return 버퍼에 추가되었으면 true, 버퍼가 가득 차 거절되었으면 false
+     */
+    boolean offer(ViewDTO viewDTO);
+}
@@ -0,0 +1,171 @@
+package com.artbridge.artist.application.service;
+
+import com.artbridge.artist.application.dto.ViewDTO;
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import com.artbridge.artist.infrastructure.management.ViewIngestionMetersService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service Implementation for {@link ViewIngestionService}.
+ * <p>
+ * 요청 스레드는 bounded 버퍼({@link ArrayBlockingQueue})에 이벤트를 넣고 바로 반환합니다.
+ * 전용 drainer 스레드가 batchSize 개가 모이거나 flushIntervalMs 가 지나면
+ * {@link ViewService#saveAll(List)} 로 한 트랜잭션에서 batch INSERT 합니다.
+ * 잘못된 이벤트가 섞여 batch 가 실패하면 batch 를 나눠 다시 저장하므로 나머지 이벤트는 잃지 않습니다.
+ */
+@Service
+public class ViewIngestionServiceImpl implements ViewIngestionService {
+
+    private final Logger log = LoggerFactory.getLogger(ViewIngestionServiceImpl.class);
+
+    private final ViewService viewService;
+
+    private final ViewIngestionMetersService viewIngestionMetersService;
+
+    private final BlockingQueue<ViewDTO> buffer;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final ExecutorService drainer = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("view-ingestion-"));
+
+    private volatile boolean running = true;
+
+    public ViewIngestionServiceImpl(
+        ViewService viewService,
+        ViewIngestionMetersService viewIngestionMetersService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.viewService = viewService;
+        this.viewIngestionMetersService = viewIngestionMetersService;
+        ApplicationProperties.ViewIngestion properties = applicationProperties.getViewIngestion();
+        this.buffer = new ArrayBlockingQueue<>(properties.getCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+    }
+
+    @PostConstruct
+    public void start() {
+        viewIngestionMetersService.registerQueue(buffer);
+        drainer.execute(this::drainLoop);
+    }
+
+    /**
+     * 새 이벤트를 거절하고, drainer 가 진행 중인 batch 를 마칠 때까지 기다린 뒤 남은 이벤트를 이 스레드에서 저장합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        drainer.shutdown();
+        if (!drainer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("View ingestion drainer did not stop in time");
+        }
+        List<ViewDTO> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+        }
+    }
+
+    @Override
+    public boolean offer(ViewDTO viewDTO) {
+        if (!running || !buffer.offer(viewDTO)) {
+            viewIngestionMetersService.trackRejected();
+            return false;
+        }
+        viewIngestionMetersService.trackAccepted();
+        return true;
+    }
+
+    private void drainLoop() {
+        List<ViewDTO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                fill(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            write(batch);
+        }
+        write(batch);
+    }
+
+    /**
+     * 첫 이벤트가 도착한 뒤 batchSize 개가 모이거나 flushIntervalMs 가 지날 때까지 batch 를 채웁니다.
+     * 이벤트가 없으면 flushIntervalMs 마다 반환해 drainLoop 가 종료 여부를 확인하게 합니다.
+     */
+    private void fill(List<ViewDTO> batch) throws InterruptedException {
+        ViewDTO first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            if (buffer.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            ViewDTO next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<ViewDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            int written = writeOrSplit(batch);
+            viewIngestionMetersService.trackFlush(written, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} view events, dropping batch", batch.size(), e);
+            viewIngestionMetersService.trackDropped(batch.size());
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * batch 를 한 트랜잭션으로 저장합니다. 삭제된 아티스트를 가리키는 이벤트처럼 데이터 때문에 실패하면
+     * batch 를 반으로 나눠 다시 저장하고, 한 건만 남아도 실패하는 이벤트만 버립니다.
+     * DB 장애처럼 데이터와 무관한 실패는 나누지 않고 호출한 쪽으로 던집니다.
+     *
+     * @return 저장된 이벤트 수
+     */
+    private int writeOrSplit(List<ViewDTO> views) {
+        try {
+            viewService.saveAll(views);
+            return views.size();
+        } catch (NonTransientDataAccessException e) {
+            if (views.size() == 1) {
+                log.warn("Failed to write view event, dropping it: {}", views.get(0), e);
+                viewIngestionMetersService.trackDropped(1);
+                return 0;
+            }
+            int half = views.size() / 2;
+            return writeOrSplit(views.subList(0, half)) + writeOrSplit(views.subList(half, views.size()));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.artbridge.artist.application.service;
 
 import com.artbridge.artist.domain.model.View;
 import com.artbridge.artist.application.dto.ViewDTO;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -56,4 +57,11 @@ public interface ViewService {
      * @param id the id of the entity.
      */
     void delete(Long id);
+
+    /**
+     * 여러 조회 이벤트를 하나의 트랜잭션에서 batch INSERT 로 저장합니다.
+     *
+     * @param viewDTOs 저장할 조회 정보 목록 (List<ViewDTO>)
+     */
+    void saveAll(List<ViewDTO> viewDTOs);
 }
@@ -4,6 +4,7 @@ import com.artbridge.artist.domain.model.View;
 import com.artbridge.artist.infrastructure.repository.ViewRepository;
 import com.artbridge.artist.application.dto.ViewDTO;
 import com.artbridge.artist.application.mapper.ViewMapper;
+import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -80,4 +81,10 @@ public class ViewServiceImpl implements ViewService {
         log.debug("Request to delete View : {}", id);
         viewRepository.deleteById(id);
     }
+
+    @Override
+    public void saveAll(List<ViewDTO> viewDTOs) {
+        log.debug("Request to save {} Views", viewDTOs.size());
+        viewRepository.saveAll(viewMapper.toEntity(viewDTOs));
+    }
 }
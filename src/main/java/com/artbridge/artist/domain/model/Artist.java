@@ -47,6 +47,12 @@ public class Artist implements Serializable {
     @Column(name = "img_url")
     private String imgUrl;
 
+    @Column(name = "img_thumbnail_url")
+    private String imgThumbnailUrl;
+
+    @Column(name = "img_medium_url")
+    private String imgMediumUrl;
+
     @Column(name = "phone")
     private String phone;
 
@@ -63,6 +69,12 @@ public class Artist implements Serializable {
     @Column(name = "status")
     private Status status;
 
+    /**
+     * 비정규화된 좋아요 수. {@code LikeCounterService} 만 JDBC 로 갱신하므로 JPA 에서는 읽기 전용입니다.
+     */
+    @Column(name = "like_count", insertable = false, updatable = false)
+    private Long likeCount;
+
     @OneToMany(mappedBy = "artist", cascade = CascadeType.ALL, orphanRemoval = true)
     @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     @JsonIgnoreProperties(value = { "artist" }, allowSetters = true)
@@ -101,6 +113,16 @@ public class Artist implements Serializable {
         return this;
     }
 
+    public Artist imgThumbnailUrl(String imgThumbnailUrl) {
+        this.setImgThumbnailUrl(imgThumbnailUrl);
+        return this;
+    }
+
+    public Artist imgMediumUrl(String imgMediumUrl) {
+        this.setImgMediumUrl(imgMediumUrl);
+        return this;
+    }
+
     public Artist phone(String phone) {
         this.setPhone(phone);
         return this;
@@ -0,0 +1,68 @@
+package com.artbridge.artist.domain.model;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.persistence.*;
+import lombok.*;
+import org.hibernate.Hibernate;
+
+/**
+ * 회원 이름 요청 outbox. 서비스 트랜잭션 안에서 기록되고, relay 가 짧은 트랜잭션으로 선점(claim)하고
+ * 트랜잭션 밖에서 Kafka 로 발행한 뒤 삭제합니다.
+ */
+@Entity
+@Table(name = "member_name_outbox")
+@Getter
+@Setter
+@ToString
+@RequiredArgsConstructor
+public class MemberNameOutbox implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "created_date", nullable = false)
+    private Instant createdDate = Instant.now();
+
+    /**
+     * 이 row 를 선점한 relay 의 식별자. 발행에 실패하면 비워져 다음 relay 가 다시 선점합니다.
+     */
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    /**
+     * 선점이 유효한 시각. relay 가 중간에 종료되어도 이 시각이 지나면 다른 relay 가 선점할 수 있습니다.
+     */
+    @Column(name = "claimed_until")
+    private Instant claimedUntil;
+
+    public MemberNameOutbox memberId(Long memberId) {
+        this.setMemberId(memberId);
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+        MemberNameOutbox memberNameOutbox = (MemberNameOutbox) o;
+        return getId() != null && Objects.equals(getId(), memberNameOutbox.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -8,4 +8,5 @@ public enum Status {
     REVISION_PENDING,
     DELETE_PENDING,
     OK,
+    UPLOAD_FAILED,
 }
@@ -43,9 +43,9 @@ public class LoggingAspect {
      * Pointcut that matches all Spring beans in the application's main packages.
      */
     @Pointcut(
-        "within(com.artbridge.artist.repository..*)" +
-        " || within(com.artbridge.artist.service..*)" +
-        " || within(com.artbridge.artist.web.rest..*)"
+        "within(com.artbridge.artist.infrastructure.repository..*)" +
+        " || within(com.artbridge.artist.application.service..*)" +
+        " || within(com.artbridge.artist.presentation.rest..*)"
     )
     public void applicationPackagePointcut() {
         // Method is empty as this is just a Pointcut, the implementations are in the advices.
@@ -0,0 +1,118 @@
+package com.artbridge.artist.infrastructure.aop.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Aspect for timing the public methods of REST controllers, services and repositories.
+ * <p>
+ * Timers are looked up once per bean class and method and cached, so a call costs two map lookups and two
+ * {@link System#nanoTime()} reads. Failed calls are recorded with the exception class as a tag.
+ * Histograms and client-side percentiles are turned off for this meter in {@code application.yml}.
+ */
+@Aspect
+public class MethodMetricsAspect {
+
+    public static final String METHOD_DURATION_METER_NAME = "artist.method.duration";
+    public static final String LAYER_DIMENSION = "layer";
+    public static final String CLASS_DIMENSION = "class";
+    public static final String METHOD_DIMENSION = "method";
+    public static final String EXCEPTION_DIMENSION = "exception";
+
+    private static final String APPLICATION_PACKAGE = "com.artbridge.artist.";
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+
+    private final Map<Class<?>, Map<Method, Timer>> timers = new ConcurrentHashMap<>();
+
+    public MethodMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Pointcut("execution(public * com.artbridge.artist.presentation.rest..*.*(..))")
+    public void restPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    @Pointcut("execution(public * com.artbridge.artist.application.service..*.*(..))")
+    public void servicePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    @Pointcut("execution(public * com.artbridge.artist.infrastructure.repository..*.*(..))")
+    public void repositoryPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    @Around("restPointcut()")
+    public Object timeRest(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "rest");
+    }
+
+    @Around("servicePointcut()")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    @Around("repositoryPointcut()")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer(joinPoint, layer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(joinPoint, layer, e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String layer) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers
+            .computeIfAbsent(joinPoint.getThis().getClass(), beanClass -> new ConcurrentHashMap<>())
+            .computeIfAbsent(method, key -> timer(joinPoint, layer, NO_EXCEPTION));
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String layer, String exception) {
+        return Timer
+            .builder(METHOD_DURATION_METER_NAME)
+            .description("Execution time of application methods.")
+            .tag(LAYER_DIMENSION, layer)
+            .tag(CLASS_DIMENSION, beanName(joinPoint.getThis().getClass()))
+            .tag(METHOD_DIMENSION, joinPoint.getSignature().getName())
+            .tag(EXCEPTION_DIMENSION, exception)
+            .register(registry);
+    }
+
+    /**
+     * Spring Data repositories are JDK proxies, name them after the application interface they implement.
+     */
+    private static String beanName(Class<?> proxyClass) {
+        Class<?> userClass = ClassUtils.getUserClass(proxyClass);
+        if (userClass.getName().startsWith(APPLICATION_PACKAGE)) {
+            return userClass.getSimpleName();
+        }
+        for (Class<?> anInterface : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)) {
+            if (anInterface.getName().startsWith(APPLICATION_PACKAGE)) {
+                return anInterface.getSimpleName();
+            }
+        }
+        return userClass.getSimpleName();
+    }
+}
@@ -1,5 +1,11 @@
 package com.artbridge.artist.infrastructure.configuration;
 
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -9,8 +15,374 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * See {@link tech.jhipster.config.JHipsterProperties} for a good example.
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
+@Getter
 public class ApplicationProperties {
+
+    private final LikeCounter likeCounter = new LikeCounter();
+
+    private final ViewIngestion viewIngestion = new ViewIngestion();
+
+    private final MemberConsumerProperties memberConsumer = new MemberConsumerProperties();
+
+    private final MemberOutbox memberOutbox = new MemberOutbox();
+
+    private final ImageStorage imageStorage = new ImageStorage();
+
+    private final ImageUpload imageUpload = new ImageUpload();
+
+    private final ImageDerivative imageDerivative = new ImageDerivative();
+
+    private final NearCache nearCache = new NearCache();
+
+    private final SecondLevelCache secondLevelCache = new SecondLevelCache();
+
+    private final PendingQueueCache pendingQueueCache = new PendingQueueCache();
+
+    private final LikedIndex likedIndex = new LikedIndex();
+
+    private final TokenCache tokenCache = new TokenCache();
+
+    private final QueryBudget queryBudget = new QueryBudget();
+
+    private final MethodMetrics methodMetrics = new MethodMetrics();
+
     // jhipster-needle-application-properties-property
     // jhipster-needle-application-properties-property-getter
+
+    /**
+     * 좋아요 카운터(write-behind) 설정.
+     */
+    @Getter
+    @Setter
+    public static class LikeCounter {
+
+        /**
+         * 메모리에 누적된 증감분을 artist.like_count 컬럼에 반영하는 주기 (ms)
+         */
+        private long flushIntervalMs = 5000;
+
+        /**
+         * jhi_like 테이블 기준으로 like_count 를 재계산하는 주기 (cron)
+         */
+        private String reconcileCron = "0 0 4 * * *";
+
+        /**
+         * 한 번의 flush 에서 JDBC batch 로 묶을 최대 업데이트 수
+         */
+        private int flushBatchSize = 100;
+
+        /**
+         * 메모리에 읽어 둔 like_count 를 DB 에서 다시 읽는 주기 (ms). 다른 노드가 flush 한 증감분은 이 주기 안에 반영됩니다.
+         */
+        private long refreshIntervalMs = 10000;
+    }
+
+    /**
+     * 조회수(view) 비동기 적재 파이프라인 설정.
+     */
+    @Getter
+    @Setter
+    public static class ViewIngestion {
+
+        /**
+         * 메모리 버퍼의 최대 이벤트 수. 가득 차면 신규 이벤트는 거절됩니다.
+         */
+        private int capacity = 10000;
+
+        /**
+         * 한 번에 INSERT 할 최대 이벤트 수 (N)
+         */
+        private int batchSize = 200;
+
+        /**
+         * batch 가 차지 않아도 적재를 수행하는 최대 대기 시간 (T, ms)
+         */
+        private long flushIntervalMs = 500;
+    }
+
+    /**
+     * 회원 이름 변경 batch consumer 설정.
+     */
+    @Getter
+    @Setter
+    public static class MemberConsumerProperties {
+
+        /**
+         * 한 번의 poll 로 가져올 최대 레코드 수
+         */
+        private int maxPollRecords = 500;
+    }
+
+    /**
+     * 회원 이름 요청 outbox relay 설정.
+     */
+    @Getter
+    @Setter
+    public static class MemberOutbox {
+
+        /**
+         * outbox 를 조회하는 주기 (ms)
+         */
+        private long pollIntervalMs = 1000;
+
+        /**
+         * 한 번에 조회해 발행할 최대 outbox row 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 동시에 broker 응답을 기다릴 수 있는 최대 발행 수
+         */
+        private int maxInFlight = 16;
+
+        /**
+         * 한 batch 의 발행 응답을 기다리는 최대 시간 (ms)
+         */
+        private long publishTimeoutMs = 10000;
+
+        /**
+         * relay 가 선점한 outbox 를 다른 relay 가 가져가지 못하는 시간 (ms). 발행 대기 시간보다 길어야 합니다.
+         */
+        private long claimTimeoutMs = 60000;
+    }
+
+    /**
+     * 이미지 업로드 storage 설정.
+     */
+    @Getter
+    @Setter
+    public static class ImageStorage {
+
+        /**
+         * 사용할 storage 구현체 (gcs, local)
+         */
+        private String type = "gcs";
+
+        /**
+         * local storage 에서 파일을 저장할 디렉터리
+         */
+        private String localDirectory = "target/image-storage";
+
+        /**
+         * local storage 에서 다운로드 URL 앞에 붙일 경로
+         */
+        private String localBaseUrl = "file:target/image-storage";
+
+        /**
+         * 저장된 것으로 확인된 object 이름을 기억할 최대 개수. 이 안에 있으면 존재 여부 조회를 생략합니다.
+         */
+        private int knownObjectCacheSize = 10000;
+    }
+
+    /**
+     * 아티스트 이미지 비동기 업로드 단계 설정.
+     */
+    @Getter
+    @Setter
+    public static class ImageUpload {
+
+        /**
+         * 동시에 진행할 최대 업로드 수
+         */
+        private int concurrency = 4;
+
+        /**
+         * 실행을 기다릴 수 있는 최대 업로드 수. 초과하면 아티스트 생성 요청을 거절합니다.
+         */
+        private int queueCapacity = 32;
+
+        /**
+         * 업로드 하나에 허용하는 최대 시간 (ms)
+         */
+        private long timeoutMs = 60000;
+    }
+
+    /**
+     * 업로드된 이미지의 파생 이미지(썸네일 등) 생성 설정.
+     */
+    @Getter
+    @Setter
+    public static class ImageDerivative {
+
+        /**
+         * 동시에 파생 이미지를 생성할 최대 작업 수
+         */
+        private int concurrency = 2;
+
+        /**
+         * 실행을 기다릴 수 있는 최대 작업 수. 초과하면 파생 이미지 생성을 건너뜁니다.
+         */
+        private int queueCapacity = 32;
+
+        /**
+         * 썸네일 가로 크기 (px)
+         */
+        private int thumbnailWidth = 320;
+
+        /**
+         * 중간 크기 이미지 가로 크기 (px)
+         */
+        private int mediumWidth = 1024;
+
+        /**
+         * 파생 이미지 JPEG 품질 (0.0 ~ 1.0)
+         */
+        private float quality = 0.8f;
+    }
+
+    /**
+     * 도메인 엔티티 2차 캐시(Hazelcast map) 앞에 두는 near cache 설정.
+     */
+    @Getter
+    @Setter
+    public static class NearCache {
+
+        /**
+         * near cache 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * region 별 near cache 에 보관할 최대 entry 수
+         */
+        private int maxSize = 10000;
+
+        /**
+         * 최대 크기에 도달했을 때 제거할 entry 를 고르는 정책 (LRU, LFU, RANDOM, NONE)
+         */
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        /**
+         * near cache entry 의 최대 보관 시간 (초, 0 이면 제한 없음). 변경은 invalidation 으로 반영됩니다.
+         */
+        private int timeToLiveSeconds = 0;
+
+        /**
+         * 이 시간 동안 읽히지 않은 near cache entry 를 제거합니다 (초, 0 이면 제한 없음)
+         */
+        private int maxIdleSeconds = 600;
+
+        /**
+         * near cache 저장 형식. OBJECT 는 읽을 때 역직렬화하지 않습니다 (OBJECT, BINARY)
+         */
+        private InMemoryFormat inMemoryFormat = InMemoryFormat.OBJECT;
+    }
+
+    /**
+     * Hibernate 2차 캐시 / 쿼리 캐시 region 별 Hazelcast map 설정.
+     * 여기 없는 도메인 region 은 jhipster.cache.hazelcast 설정을 따릅니다.
+     */
+    @Getter
+    @Setter
+    public static class SecondLevelCache {
+
+        private List<Region> regions = new ArrayList<>();
+
+        @Getter
+        @Setter
+        public static class Region {
+
+            /**
+             * region 이름 (엔티티/컬렉션 region 은 클래스 이름, 쿼리 캐시는 default-query-results-region)
+             */
+            private String name;
+
+            /**
+             * entry 의 최대 보관 시간 (초, 0 이면 제한 없음)
+             */
+            private int timeToLiveSeconds = 3600;
+
+            /**
+             * 노드별 최대 entry 수. 넘으면 LRU 로 제거합니다 (0 이면 제한 없음)
+             */
+            private int maxSize = 0;
+        }
+    }
+
+    /**
+     * 관리자 심사 대기 목록 페이지 캐시 설정.
+     */
+    @Getter
+    @Setter
+    public static class PendingQueueCache {
+
+        /**
+         * 캐시된 페이지의 최대 보관 시간 (초). 상태 변경은 즉시 무효화되고, JDBC 로 갱신되는 likeCount 만 이 시간만큼 늦을 수 있습니다
+         */
+        private int timeToLiveSeconds = 300;
+
+        /**
+         * 상태별 최대 캐시 페이지 수 (노드별)
+         */
+        private int maxSize = 1000;
+    }
+
+    /**
+     * 회원별 좋아요한 아티스트 ID 인덱스("liked-by-me") 설정.
+     */
+    @Getter
+    @Setter
+    public static class LikedIndex {
+
+        /**
+         * 인덱스 전체에 보관할 최대 아티스트 ID 수. 넘으면 오래 조회되지 않은 회원부터 제거합니다
+         */
+        private long maxIds = 1_000_000;
+
+        /**
+         * 회원 한 명의 좋아요가 이보다 많으면 인덱스에 올리지 않고 요청한 아티스트만 DB 에서 조회합니다
+         */
+        private int maxIdsPerMember = 10000;
+
+        /**
+         * 아티스트 ID 하나당 Bloom filter 비트 수 (10 이면 false positive 약 1%)
+         */
+        private int bloomBitsPerId = 10;
+    }
+
+    /**
+     * 검증된 JWT 캐시 설정.
+     */
+    @Getter
+    @Setter
+    public static class TokenCache {
+
+        /**
+         * 검증 결과 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 보관할 최대 토큰 수. 넘으면 만료된 토큰, 만료가 가까운 토큰 순으로 제거합니다
+         */
+        private int maxSize = 10000;
+    }
+
+    /**
+     * API 요청당 SQL statement 예산 설정.
+     */
+    @Getter
+    @Setter
+    public static class QueryBudget {
+
+        /**
+         * 요청 하나가 준비할 수 있는 최대 statement 수. 넘으면 경고를 남기고 엔드포인트별로 셉니다 (0 이면 사용 안 함)
+         */
+        private int maxStatementsPerRequest = 20;
+    }
+
+    /**
+     * presentation.rest, application.service, infrastructure.repository 메서드 실행 시간 측정 설정.
+     */
+    @Getter
+    @Setter
+    public static class MethodMetrics {
+
+        /**
+         * 메서드별 Micrometer timer 기록 여부
+         */
+        private boolean enabled = true;
+    }
+
     // jhipster-needle-application-properties-property-class
 }
@@ -4,6 +4,7 @@ import com.hazelcast.config.*;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import javax.annotation.PreDestroy;
+import org.hibernate.cache.spi.RegionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +28,8 @@ import tech.jhipster.config.cache.PrefixedKeyGenerator;
 @EnableCaching
 public class CacheConfiguration {
 
+    private static final String DOMAIN_REGION_PREFIX = "com.artbridge.artist.domain.";
+
     private GitProperties gitProperties;
     private BuildProperties buildProperties;
 
@@ -38,12 +41,20 @@ public class CacheConfiguration {
 
     private final DiscoveryClient discoveryClient;
 
+    private final ApplicationProperties applicationProperties;
+
     private Registration registration;
 
-    public CacheConfiguration(Environment env, ServerProperties serverProperties, DiscoveryClient discoveryClient) {
+    public CacheConfiguration(
+        Environment env,
+        ServerProperties serverProperties,
+        DiscoveryClient discoveryClient,
+        ApplicationProperties applicationProperties
+    ) {
         this.env = env;
         this.serverProperties = serverProperties;
         this.discoveryClient = discoveryClient;
+        this.applicationProperties = applicationProperties;
     }
 
     @Autowired(required = false)
@@ -107,6 +118,11 @@ public class CacheConfiguration {
         config.setManagementCenterConfig(new ManagementCenterConfig());
         config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
         config.addMapConfig(initializeDomainMapConfig(jHipsterProperties));
+        config.addMapConfig(initializeUpdateTimestampsMapConfig(jHipsterProperties));
+        config.addMapConfig(initializePendingQueueMapConfig());
+        for (ApplicationProperties.SecondLevelCache.Region region : applicationProperties.getSecondLevelCache().getRegions()) {
+            config.addMapConfig(initializeRegionMapConfig(region));
+        }
         return Hazelcast.newHazelcastInstance(config);
     }
 
@@ -143,9 +159,81 @@ public class CacheConfiguration {
     private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties) {
         MapConfig mapConfig = new MapConfig("com.artbridge.artist.domain.*");
         mapConfig.setTimeToLiveSeconds(jHipsterProperties.getCache().getHazelcast().getTimeToLiveSeconds());
+
+        ApplicationProperties.NearCache nearCache = applicationProperties.getNearCache();
+        if (nearCache.isEnabled()) {
+            mapConfig.setNearCacheConfig(initializeDomainNearCacheConfig(nearCache));
+        }
+        return mapConfig;
+    }
+
+    /*
+    Query cache results are only valid while the update timestamps of the
+    tables they read are known, so this region must never expire or be
+    evicted, whatever the default map configuration says.
+    */
+    private MapConfig initializeUpdateTimestampsMapConfig(JHipsterProperties jHipsterProperties) {
+        MapConfig mapConfig = new MapConfig(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME);
+        mapConfig.setBackupCount(jHipsterProperties.getCache().getHazelcast().getBackupCount());
+        mapConfig.getEvictionConfig().setEvictionPolicy(EvictionPolicy.NONE);
+        return mapConfig;
+    }
+
+    private MapConfig initializePendingQueueMapConfig() {
+        ApplicationProperties.PendingQueueCache pendingQueueCache = applicationProperties.getPendingQueueCache();
+        MapConfig mapConfig = new MapConfig(CacheNames.PENDING_QUEUE_CACHE_PREFIX + "*");
+        mapConfig.setTimeToLiveSeconds(pendingQueueCache.getTimeToLiveSeconds());
+        mapConfig
+            .getEvictionConfig()
+            .setEvictionPolicy(EvictionPolicy.LRU)
+            .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+            .setSize(pendingQueueCache.getMaxSize());
+        return mapConfig;
+    }
+
+    /*
+    Region specific settings replace the wildcard domain map configuration,
+    so domain regions get the near cache again here.
+    */
+    private MapConfig initializeRegionMapConfig(ApplicationProperties.SecondLevelCache.Region region) {
+        MapConfig mapConfig = new MapConfig(region.getName());
+        mapConfig.setTimeToLiveSeconds(region.getTimeToLiveSeconds());
+        if (region.getMaxSize() > 0) {
+            mapConfig
+                .getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                .setSize(region.getMaxSize());
+        }
+
+        ApplicationProperties.NearCache nearCache = applicationProperties.getNearCache();
+        if (nearCache.isEnabled() && region.getName().startsWith(DOMAIN_REGION_PREFIX)) {
+            mapConfig.setNearCacheConfig(initializeDomainNearCacheConfig(nearCache));
+        }
         return mapConfig;
     }
 
+    /*
+    Near cache keeps recently read entries of the domain maps in this JVM,
+    so second-level cache hits for entries owned by another member do not
+    need a network round trip. Entries are invalidated when any member
+    updates or evicts them, and entries owned by this member are read
+    from the local partition anyway, so they are not duplicated.
+    */
+    private NearCacheConfig initializeDomainNearCacheConfig(ApplicationProperties.NearCache nearCache) {
+        EvictionConfig evictionConfig = new EvictionConfig()
+            .setEvictionPolicy(nearCache.getEvictionPolicy())
+            .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+            .setSize(nearCache.getMaxSize());
+        return new NearCacheConfig()
+            .setInMemoryFormat(nearCache.getInMemoryFormat())
+            .setInvalidateOnChange(true)
+            .setCacheLocalEntries(false)
+            .setTimeToLiveSeconds(nearCache.getTimeToLiveSeconds())
+            .setMaxIdleSeconds(nearCache.getMaxIdleSeconds())
+            .setEvictionConfig(evictionConfig);
+    }
+
     @Autowired(required = false)
     public void setGitProperties(GitProperties gitProperties) {
         this.gitProperties = gitProperties;
@@ -0,0 +1,20 @@
+package com.artbridge.artist.infrastructure.configuration;
+
+/**
+ * Spring cache names configured in {@link CacheConfiguration}.
+ */
+public final class CacheNames {
+
+    /**
+     * 심사 대기 목록 페이지 캐시 이름의 접두사. 상태마다 하나의 캐시를 사용합니다 (접두사 + {@code Status#name()}).
+     */
+    public static final String PENDING_QUEUE_CACHE_PREFIX = "artistPendingQueue.";
+
+    public static final String UPLOAD_PENDING_QUEUE_CACHE = PENDING_QUEUE_CACHE_PREFIX + "UPLOAD_PENDING";
+
+    public static final String REVISION_PENDING_QUEUE_CACHE = PENDING_QUEUE_CACHE_PREFIX + "REVISION_PENDING";
+
+    public static final String DELETE_PENDING_QUEUE_CACHE = PENDING_QUEUE_CACHE_PREFIX + "DELETE_PENDING";
+
+    private CacheNames() {}
+}
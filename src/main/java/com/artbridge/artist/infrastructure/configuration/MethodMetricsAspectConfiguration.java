@@ -0,0 +1,19 @@
+package com.artbridge.artist.infrastructure.configuration;
+
+import com.artbridge.artist.infrastructure.aop.metrics.MethodMetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+@Configuration
+@EnableAspectJAutoProxy
+public class MethodMetricsAspectConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.method-metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public MethodMetricsAspect methodMetricsAspect(MeterRegistry registry) {
+        return new MethodMetricsAspect(registry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.artbridge.artist.infrastructure.gcs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입력 스트림을 고정 크기 buffer 단위로 채널에 복사합니다.
+ * <p>
+ * 업로드 하나가 점유하는 메모리는 파일 크기와 무관하게 BUFFER_SIZE 로 고정됩니다.
+ * GCS {@link com.google.cloud.WriteChannel} 는 받은 내용을 자체 chunk buffer 에 다시 복사하므로 buffer 는 heap 에 둡니다.
+ */
+@Component
+public class ChunkedTransfer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 입력 스트림이 끝날 때까지 out 채널로 복사합니다. 두 스트림 모두 닫지 않습니다.
+     *
+     * @return 복사한 byte 수
+     */
+    public long copy(InputStream in, WritableByteChannel out) throws IOException {
+        ReadableByteChannel source = Channels.newChannel(in);
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long total = 0;
+        while (source.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                total += drain(buffer, out);
+            }
+        }
+        return total + drain(buffer, out);
+    }
+
+    /**
+     * 파일 전체를 한 번 읽어 주어진 digest 를 모두 갱신합니다.
+     */
+    public void digest(Path file, MessageDigest... digests) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                for (MessageDigest digest : digests) {
+                    buffer.rewind();
+                    digest.update(buffer);
+                }
+                buffer.clear();
+            }
+        }
+    }
+
+    private long drain(ByteBuffer buffer, WritableByteChannel out) throws IOException {
+        buffer.flip();
+        long written = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+        return written;
+    }
+}
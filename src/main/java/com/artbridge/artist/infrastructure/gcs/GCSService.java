@@ -1,8 +1,49 @@
 package com.artbridge.artist.infrastructure.gcs;
 
 import java.io.IOException;
-import org.springframework.web.multipart.MultipartFile;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 
 public interface GCSService {
-    String uploadImageToGCS(MultipartFile imageFile) throws IOException;
+    /**
+     * 입력 스트림을 objectName 으로 저장합니다. storage 가 받은 내용의 MD5 가 다르면 저장하지 않습니다.
+     *
+     * @param objectName  저장할 object 이름 (String)
+     * @param contentType object 의 Content-Type (String)
+     * @param md5         저장할 내용의 MD5 digest (base64)
+     * @param content     저장할 내용 (InputStream), 호출한 쪽에서 닫습니다.
+     * @return 저장된 object 의 다운로드 URL
+     * @throws IOException 저장에 실패한 경우
+     */
+    String uploadImageToGCS(String objectName, String contentType, String md5, InputStream content) throws IOException;
+
+    /**
+     * 메모리에 있는 이미지를 objectName 으로 저장합니다.
+     *
+     * @param objectName  저장할 object 이름 (String)
+     * @param contentType object 의 Content-Type (String)
+     * @param content     저장할 내용 (byte[])
+     * @return 저장된 object 의 다운로드 URL
+     * @throws IOException 저장에 실패한 경우
+     */
+    String uploadImageToGCS(String objectName, String contentType, byte[] content) throws IOException;
+
+    /**
+     * 파일을 한 번 읽어 SHA-256 과 MD5 digest 를 구합니다. SHA-256 은 내용 기반 object 이름으로, MD5 는 저장한 내용 확인에 사용합니다.
+     *
+     * @param imageFile 이미지 파일 (Path)
+     * @return 파일의 digest
+     * @throws IOException 파일을 읽지 못한 경우
+     */
+    ImageDigest digestOf(Path imageFile) throws IOException;
+
+    /**
+     * objectName 으로 이미 저장된 이미지의 URL 을 찾습니다. 이미 확인된 이름은 storage 를 조회하지 않습니다.
+     *
+     * @param objectName 찾을 object 이름 (String)
+     * @return 저장된 이미지의 URL, 없으면 empty
+     * @throws IOException 조회에 실패한 경우
+     */
+    Optional<String> findImage(String objectName) throws IOException;
 }
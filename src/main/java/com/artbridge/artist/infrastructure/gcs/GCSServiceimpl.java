@@ -1,41 +1,92 @@
 package com.artbridge.artist.infrastructure.gcs;
 
-import com.google.cloud.storage.BlobId;
-import com.google.cloud.storage.BlobInfo;
-import com.google.cloud.storage.Storage;
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.util.UUID;
-import org.springframework.beans.factory.annotation.Value;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
+/**
+ * 이미지 object 는 내용의 SHA-256 digest 로 이름을 붙이므로, 같은 내용을 다시 올리면 쓰기를 생략합니다.
+ * 저장이 확인된 object 이름은 LRU 로 기억해 storage 존재 여부 조회를 줄입니다.
+ */
 @Service
 public class GCSServiceimpl implements GCSService {
 
-    private final String bucketName;
-    private final Storage storage;
+    private final ImageStorage imageStorage;
 
-    public GCSServiceimpl(@Value("${spring.cloud.gcp.storage.bucket}") String bucketName, Storage storage) {
-        this.bucketName = bucketName;
-        this.storage = storage;
+    private final ChunkedTransfer chunkedTransfer;
+
+    private final Set<String> knownObjects;
+
+    public GCSServiceimpl(ImageStorage imageStorage, ChunkedTransfer chunkedTransfer, ApplicationProperties applicationProperties) {
+        this.imageStorage = imageStorage;
+        this.chunkedTransfer = chunkedTransfer;
+        int knownObjectCacheSize = applicationProperties.getImageStorage().getKnownObjectCacheSize();
+        this.knownObjects =
+            Collections.newSetFromMap(
+                Collections.synchronizedMap(
+                    new LinkedHashMap<>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                            return size() > knownObjectCacheSize;
+                        }
+                    }
+                )
+            );
     }
 
     @Override
-    public String uploadImageToGCS(MultipartFile imageFile) throws IOException {
-        String objectName = generateRandomObjectName();
+    public String uploadImageToGCS(String objectName, String contentType, String md5, InputStream content) throws IOException {
+        String url = imageStorage.store(objectName, contentType, md5, content);
+        knownObjects.add(objectName);
+        return url;
+    }
 
-        BlobId blobId = BlobId.of(bucketName, objectName);
-        BlobInfo blobInfo = BlobInfo.newBuilder(blobId).setContentType("image/jpeg").build();
-        storage.create(blobInfo, imageFile.getBytes());
+    @Override
+    public String uploadImageToGCS(String objectName, String contentType, byte[] content) throws IOException {
+        String md5 = Base64.getEncoder().encodeToString(newDigest("MD5").digest(content));
+        return uploadImageToGCS(objectName, contentType, md5, new ByteArrayInputStream(content));
+    }
 
-        return generateDownloadURL(objectName);
+    @Override
+    public ImageDigest digestOf(Path imageFile) throws IOException {
+        MessageDigest sha256 = newDigest("SHA-256");
+        MessageDigest md5 = newDigest("MD5");
+        chunkedTransfer.digest(imageFile, sha256, md5);
+        StringBuilder hex = new StringBuilder();
+        for (byte b : sha256.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return new ImageDigest(hex.toString(), Base64.getEncoder().encodeToString(md5.digest()));
     }
 
-    private String generateRandomObjectName() {
-        return UUID.randomUUID() + ".jpg";
+    @Override
+    public Optional<String> findImage(String objectName) throws IOException {
+        if (knownObjects.contains(objectName)) {
+            return Optional.of(imageStorage.urlOf(objectName));
+        }
+        if (imageStorage.exists(objectName)) {
+            knownObjects.add(objectName);
+            return Optional.of(imageStorage.urlOf(objectName));
+        }
+        return Optional.empty();
     }
 
-    private String generateDownloadURL(String objectName) {
-        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    private MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
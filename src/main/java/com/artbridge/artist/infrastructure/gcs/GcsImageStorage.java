@@ -0,0 +1,76 @@
+package com.artbridge.artist.infrastructure.gcs;
+
+import com.google.cloud.WriteChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Google Cloud Storage 의 resumable upload({@link WriteChannel})로 이미지를 저장하는 {@link ImageStorage}.
+ * chunk 가 작을수록 요청 왕복이 늘어나므로 chunk 크기는 client library 기본값을 사용합니다.
+ * <p>
+ * {@link WriteChannel} 을 닫으면 그때까지 받은 내용으로 object 가 확정되므로, 복사에 실패하면 채널을 닫지 않고 upload session 을 버립니다.
+ * 확정할 때도 MD5 가 다르면 GCS 가 거부하므로 잘린 내용이 digest 이름으로 남지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.image-storage", name = "type", havingValue = "gcs", matchIfMissing = true)
+public class GcsImageStorage implements ImageStorage {
+
+    /**
+     * object 이름이 내용의 digest 이므로 같은 이름의 내용은 바뀌지 않습니다.
+     */
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final String bucketName;
+    private final Storage storage;
+    private final ChunkedTransfer chunkedTransfer;
+
+    public GcsImageStorage(@Value("${spring.cloud.gcp.storage.bucket}") String bucketName, Storage storage, ChunkedTransfer chunkedTransfer) {
+        this.bucketName = bucketName;
+        this.storage = storage;
+        this.chunkedTransfer = chunkedTransfer;
+    }
+
+    @Override
+    public String store(String objectName, String contentType, String md5, InputStream content) throws IOException {
+        BlobInfo blobInfo = BlobInfo
+            .newBuilder(BlobId.of(bucketName, objectName))
+            .setContentType(contentType)
+            .setCacheControl(IMMUTABLE_CACHE_CONTROL)
+            .setMd5(md5)
+            .build();
+        try {
+            WriteChannel writer = storage.writer(blobInfo, Storage.BlobWriteOption.doesNotExist(), Storage.BlobWriteOption.md5Match());
+            chunkedTransfer.copy(content, writer);
+            writer.close();
+        } catch (StorageException e) {
+            if (e.getCode() == HttpURLConnection.HTTP_PRECON_FAILED) {
+                // 같은 내용이 먼저 저장되었습니다.
+                return urlOf(objectName);
+            }
+            throw new IOException("Failed to store object " + objectName, e);
+        }
+        return urlOf(objectName);
+    }
+
+    @Override
+    public boolean exists(String objectName) throws IOException {
+        try {
+            return storage.get(BlobId.of(bucketName, objectName), Storage.BlobGetOption.fields(Storage.BlobField.NAME)) != null;
+        } catch (StorageException e) {
+            throw new IOException("Failed to look up object " + objectName, e);
+        }
+    }
+
+    @Override
+    public String urlOf(String objectName) {
+        return String.format("https://storage.googleapis.com/%s/%s", bucketName, objectName);
+    }
+}
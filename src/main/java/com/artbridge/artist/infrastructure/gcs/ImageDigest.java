@@ -0,0 +1,22 @@
+package com.artbridge.artist.infrastructure.gcs;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * 한 번 읽어 구한 이미지 파일의 digest.
+ */
+@Value
+@AllArgsConstructor
+public class ImageDigest {
+
+    /**
+     * 내용 기반 object 이름으로 쓰는 SHA-256 digest (16진수)
+     */
+    String sha256;
+
+    /**
+     * storage 가 받은 내용을 확인할 때 쓰는 MD5 digest (base64)
+     */
+    String md5;
+}
@@ -0,0 +1,43 @@
+package com.artbridge.artist.infrastructure.gcs;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 원본을 저장하는 storage SPI.
+ * <p>
+ * 구현체는 입력 스트림을 고정 크기 chunk 단위로 흘려 보내야 하며, 파일 전체를 heap 에 올려서는 안 됩니다.
+ * {@code application.image-storage.type} 으로 구현체(gcs, local)를 선택합니다.
+ */
+public interface ImageStorage {
+
+    /**
+     * 입력 스트림을 objectName 으로 저장합니다.
+     * 저장이 실패하면 불완전한 object 가 objectName 으로 남지 않아야 합니다.
+     *
+     * @param objectName  저장할 object 이름 (String)
+     * @param contentType object 의 Content-Type (String)
+     * @param md5         저장할 내용의 MD5 digest (base64), storage 가 받은 내용이 다르면 저장하지 않습니다.
+     * @param content     저장할 내용 (InputStream), 호출한 쪽에서 닫습니다.
+     * @return 저장된 object 의 다운로드 URL
+     * @throws IOException 저장에 실패한 경우
+     */
+    String store(String objectName, String contentType, String md5, InputStream content) throws IOException;
+
+    /**
+     * objectName 으로 저장된 object 가 있는지 확인합니다.
+     *
+     * @param objectName 확인할 object 이름 (String)
+     * @return object 가 있으면 true
+     * @throws IOException 확인에 실패한 경우
+     */
+    boolean exists(String objectName) throws IOException;
+
+    /**
+     * objectName 의 다운로드 URL 을 만듭니다.
+     *
+     * @param objectName object 이름 (String)
+     * @return 다운로드 URL
+     */
+    String urlOf(String objectName);
+}
@@ -0,0 +1,75 @@
+package com.artbridge.artist.infrastructure.gcs;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일 시스템에 이미지를 저장하는 {@link ImageStorage}. GCS 없이 업로드 경로를 확인할 때 사용합니다.
+ * <p>
+ * 임시 파일에 먼저 기록하고 MD5 를 확인한 뒤 이동하므로, 업로드가 중간에 실패해도 불완전한 파일이 남지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.image-storage", name = "type", havingValue = "local")
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path directory;
+    private final String baseUrl;
+    private final ChunkedTransfer chunkedTransfer;
+
+    public LocalImageStorage(ApplicationProperties applicationProperties, ChunkedTransfer chunkedTransfer) throws IOException {
+        ApplicationProperties.ImageStorage properties = applicationProperties.getImageStorage();
+        this.directory = Files.createDirectories(Paths.get(properties.getLocalDirectory()));
+        this.baseUrl = properties.getLocalBaseUrl();
+        this.chunkedTransfer = chunkedTransfer;
+    }
+
+    @Override
+    public String store(String objectName, String contentType, String md5, InputStream content) throws IOException {
+        Path target = directory.resolve(objectName);
+        Path temp = Files.createTempFile(directory, objectName, ".part");
+        try {
+            DigestInputStream digested = new DigestInputStream(content, newMd5());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                chunkedTransfer.copy(digested, channel);
+            }
+            if (!md5.equals(Base64.getEncoder().encodeToString(digested.getMessageDigest().digest()))) {
+                throw new IOException("MD5 mismatch for object " + objectName);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return urlOf(objectName);
+    }
+
+    @Override
+    public boolean exists(String objectName) {
+        return Files.exists(directory.resolve(objectName));
+    }
+
+    @Override
+    public String urlOf(String objectName) {
+        return baseUrl + "/" + objectName;
+    }
+
+    private MessageDigest newMd5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.artbridge.artist.infrastructure.image;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 이미지 파일의 헤더로 판별한 형식.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ImageFormat {
+
+    /**
+     * Content-Type (예: image/png)
+     */
+    private final String contentType;
+
+    /**
+     * 파일 확장자 (예: png)
+     */
+    private final String suffix;
+}
@@ -0,0 +1,138 @@
+package com.artbridge.artist.infrastructure.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.spi.ImageReaderSpi;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원본 이미지 파일로부터 축소된 JPEG 파생 이미지를 만듭니다.
+ * <p>
+ * 원본을 전부 디코딩하지 않고 {@link ImageReadParam#setSourceSubsampling} 으로 목표 크기에 가깝게 읽으므로,
+ * 메모리에 올라가는 픽셀 수는 원본 해상도가 아니라 목표 크기에 비례합니다.
+ * 투명한 영역이 있는 원본(PNG, WebP 등)은 흰 배경에 합성해 JPEG 로 만듭니다.
+ * <p>
+ * 파생 이미지는 WebP 가 아니라 JPEG 로만 만듭니다. JDK ImageIO 에는 WebP writer 가 없고 인코더 의존성을 추가하지 않았으므로,
+ * 형식은 {@link #DERIVATIVE_CONTENT_TYPE} 와 {@link #DERIVATIVE_SUFFIX} 에만 두어 writer 가 생기면 여기서 바꿀 수 있게 합니다.
+ */
+@Component
+public class ImageResizer {
+
+    public static final String DERIVATIVE_CONTENT_TYPE = "image/jpeg";
+
+    public static final String DERIVATIVE_SUFFIX = "jpg";
+
+    /**
+     * 파일 헤더로 이미지 형식을 판별합니다. 형식뿐 아니라 헤더의 크기 정보까지 읽을 수 있어야 이미지로 판별합니다.
+     *
+     * @return 이미지 형식, ImageIO 가 읽을 수 없는 파일이면 empty
+     */
+    public Optional<ImageFormat> detect(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if (reader.getWidth(0) <= 0 || reader.getHeight(0) <= 0) {
+                    return Optional.empty();
+                }
+                ImageReaderSpi provider = reader.getOriginatingProvider();
+                return Optional.of(new ImageFormat(provider.getMIMETypes()[0], provider.getFileSuffixes()[0]));
+            } catch (IOException | RuntimeException e) {
+                return Optional.empty();
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 가로 targetWidth 이하로 축소한 JPEG 를 만듭니다. 원본이 더 작으면 크기를 유지합니다.
+     *
+     * @param source      원본 이미지 파일
+     * @param targetWidth 목표 가로 크기 (px)
+     * @param quality     JPEG 품질 (0.0 ~ 1.0)
+     * @return JPEG 로 인코딩된 파생 이미지
+     * @throws IOException 원본을 읽을 수 없는 경우
+     */
+    public byte[] resize(Path source, int targetWidth, float quality) throws IOException {
+        BufferedImage resized = scale(read(source, targetWidth), targetWidth);
+        try {
+            return encode(resized, quality);
+        } finally {
+            resized.flush();
+        }
+    }
+
+    private BufferedImage read(Path source, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new UnsupportedImageFormatException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / targetWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image, int targetWidth) {
+        int width = Math.min(targetWidth, image.getWidth());
+        int height = Math.max(1, Math.round((float) image.getHeight() * width / image.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            if (image.getColorModel().hasAlpha()) {
+                // JPEG 에는 alpha 가 없으므로 투명한 영역이 검게 보이지 않도록 흰 배경에 합성합니다.
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+            image.flush();
+        }
+        return scaled;
+    }
+
+    private byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByMIMEType(DERIVATIVE_CONTENT_TYPE).next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
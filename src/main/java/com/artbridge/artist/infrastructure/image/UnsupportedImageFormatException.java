@@ -0,0 +1,15 @@
+package com.artbridge.artist.infrastructure.image;
+
+import java.io.IOException;
+
+/**
+ * 파일을 ImageIO 가 읽을 수 있는 이미지로 판별할 수 없을 때 발생합니다.
+ */
+public class UnsupportedImageFormatException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedImageFormatException(String message) {
+        super(message);
+    }
+}
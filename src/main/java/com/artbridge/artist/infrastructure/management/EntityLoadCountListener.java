@@ -0,0 +1,42 @@
+package com.artbridge.artist.infrastructure.management;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 중에 Hibernate 가 읽은 엔티티 수를 {@link QueryCountInspector} 에 알립니다.
+ * <p>
+ * StatementInspector 는 SQL 문자열만 받으므로 결과 행 수는 알 수 없어, 행 수 대신 읽은 엔티티 수를 셉니다.
+ * 2차 캐시에서 읽은 엔티티도 포함되고, DTO projection 조회의 행은 포함되지 않습니다.
+ */
+@Component
+public class EntityLoadCountListener implements PostLoadEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient EntityManagerFactory entityManagerFactory;
+
+    public EntityLoadCountListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void register() {
+        entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        QueryCountInspector.entityLoaded();
+    }
+}
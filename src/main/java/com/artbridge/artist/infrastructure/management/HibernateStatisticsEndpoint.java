@@ -0,0 +1,100 @@
+package com.artbridge.artist.infrastructure.management;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시/쿼리 캐시 region 별 적중률과 요청당 SQL 수를 보여주는 management endpoint.
+ * <p>
+ * {@code GET /management/hibernatestats} 로 조회하고 {@code DELETE} 로 Hibernate 통계를 초기화합니다.
+ * 통계는 {@code hibernate.generate_statistics} 가 켜져 있을 때만 쌓입니다.
+ */
+@Component
+@Endpoint(id = "hibernatestats")
+public class HibernateStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final QueryCountMetersService queryCountMetersService;
+
+    public HibernateStatisticsEndpoint(EntityManagerFactory entityManagerFactory, QueryCountMetersService queryCountMetersService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.queryCountMetersService = queryCountMetersService;
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Statistics statistics = hibernateStatistics();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("requests", requests());
+        result.put("queries", queries(statistics));
+        result.put("regions", regions(statistics));
+        return result;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        hibernateStatistics().clear();
+    }
+
+    private Statistics hibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Map<String, Object> requests() {
+        Map<String, Object> requests = new LinkedHashMap<>();
+        requests.put("count", queryCountMetersService.getRequestCount());
+        requests.put("statementsPerRequest", queryCountMetersService.getMeanQueriesPerRequest());
+        requests.put("maxStatementsPerRequest", queryCountMetersService.getMaxQueriesPerRequest());
+        requests.put("entitiesPerRequest", queryCountMetersService.getMeanEntitiesPerRequest());
+        requests.put("overQueryBudget", queryCountMetersService.getBudgetExceededCount());
+        return requests;
+    }
+
+    private Map<String, Object> queries(Statistics statistics) {
+        Map<String, Object> queries = new LinkedHashMap<>();
+        queries.put("preparedStatements", statistics.getPrepareStatementCount());
+        queries.put("executed", statistics.getQueryExecutionCount());
+        queries.put("maxTimeMs", statistics.getQueryExecutionMaxTime());
+        queries.put("slowest", statistics.getQueryExecutionMaxTimeQueryString());
+        queries.put("entityLoads", statistics.getEntityLoadCount());
+        queries.put("entityFetches", statistics.getEntityFetchCount());
+        queries.put("collectionFetches", statistics.getCollectionFetchCount());
+        return queries;
+    }
+
+    private Map<String, Object> regions(Statistics statistics) {
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            putRegion(regions, regionName, statistics.getCacheRegionStatistics(regionName));
+        }
+        String queryRegionName = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+        putRegion(regions, queryRegionName, statistics.getQueryRegionStatistics(queryRegionName));
+        return regions;
+    }
+
+    private void putRegion(Map<String, Object> regions, String regionName, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return;
+        }
+        long hits = regionStatistics.getHitCount();
+        long misses = regionStatistics.getMissCount();
+        Map<String, Object> region = new LinkedHashMap<>();
+        region.put("hits", hits);
+        region.put("misses", misses);
+        region.put("puts", regionStatistics.getPutCount());
+        region.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        regions.put(regionName, region);
+    }
+}
@@ -0,0 +1,106 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ImageUploadMetersService {
+
+    public static final String IN_FLIGHT_METER_NAME = "artist.image.upload.in.flight";
+    public static final String LATENCY_METER_NAME = "artist.image.upload.latency";
+    public static final String REJECTED_METER_NAME = "artist.image.upload.rejected";
+    public static final String DEDUPLICATED_METER_NAME = "artist.image.upload.deduplicated";
+    public static final String DERIVATIVE_LATENCY_METER_NAME = "artist.image.derivative.latency";
+    public static final String DERIVATIVE_SKIPPED_METER_NAME = "artist.image.derivative.skipped";
+    public static final String LATENCY_METER_RESULT_DIMENSION = "result";
+
+    private final MeterRegistry registry;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Timer timeoutTimer;
+    private final Counter rejectedCounter;
+    private final Counter deduplicatedCounter;
+    private final Timer derivativeSuccessTimer;
+    private final Timer derivativeFailureTimer;
+    private final Counter derivativeSkippedCounter;
+
+    public ImageUploadMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.successTimer = latencyTimerForResultBuilder("success").register(registry);
+        this.failureTimer = latencyTimerForResultBuilder("failure").register(registry);
+        this.timeoutTimer = latencyTimerForResultBuilder("timeout").register(registry);
+        this.rejectedCounter = Counter
+            .builder(REJECTED_METER_NAME)
+            .baseUnit("uploads")
+            .description("Number of image uploads rejected because the upload stage was full.")
+            .register(registry);
+        this.deduplicatedCounter = Counter
+            .builder(DEDUPLICATED_METER_NAME)
+            .baseUnit("uploads")
+            .description("Number of image uploads skipped because the same content was already stored.")
+            .register(registry);
+        this.derivativeSuccessTimer = derivativeLatencyTimerForResultBuilder("success").register(registry);
+        this.derivativeFailureTimer = derivativeLatencyTimerForResultBuilder("failure").register(registry);
+        this.derivativeSkippedCounter = Counter
+            .builder(DERIVATIVE_SKIPPED_METER_NAME)
+            .baseUnit("images")
+            .description("Number of images whose derivatives were skipped because the derivative pool was full.")
+            .register(registry);
+    }
+
+    private Timer.Builder derivativeLatencyTimerForResultBuilder(String result) {
+        return Timer
+            .builder(DERIVATIVE_LATENCY_METER_NAME)
+            .description("Time taken to generate and store the derivatives of one image.")
+            .tag(LATENCY_METER_RESULT_DIMENSION, result);
+    }
+
+    private Timer.Builder latencyTimerForResultBuilder(String result) {
+        return Timer
+            .builder(LATENCY_METER_NAME)
+            .description("Time taken to upload one image, from staging to write-back.")
+            .tag(LATENCY_METER_RESULT_DIMENSION, result);
+    }
+
+    public void registerInFlight(Supplier<Number> inFlight) {
+        Gauge.builder(IN_FLIGHT_METER_NAME, inFlight).description("Number of staged or running image uploads.").register(registry);
+    }
+
+    public void trackRejected() {
+        this.rejectedCounter.increment();
+    }
+
+    public void trackDeduplicated() {
+        this.deduplicatedCounter.increment();
+    }
+
+    public void trackSuccess(long elapsedNanos) {
+        this.successTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackFailure(long elapsedNanos) {
+        this.failureTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackTimeout(long elapsedNanos) {
+        this.timeoutTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackDerivativeSuccess(long elapsedNanos) {
+        this.derivativeSuccessTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackDerivativeFailure(long elapsedNanos) {
+        this.derivativeFailureTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void trackDerivativeSkipped() {
+        this.derivativeSkippedCounter.increment();
+    }
+}
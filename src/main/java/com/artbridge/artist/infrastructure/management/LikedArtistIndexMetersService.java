@@ -0,0 +1,71 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LikedArtistIndexMetersService {
+
+    public static final String LOOKUPS_METER_NAME = "artist.like.index.lookups";
+    public static final String LOOKUPS_METER_RESULT_DIMENSION = "result";
+    public static final String LOADS_METER_NAME = "artist.like.index.loads";
+    public static final String EVICTIONS_METER_NAME = "artist.like.index.evictions";
+    public static final String MEMBERS_METER_NAME = "artist.like.index.members";
+    public static final String IDS_METER_NAME = "artist.like.index.ids";
+
+    private final MeterRegistry registry;
+
+    private final Counter bloomNegativeCounter;
+    private final Counter setCounter;
+    private final Counter fallbackCounter;
+    private final Counter loadsCounter;
+    private final Counter evictionsCounter;
+
+    public LikedArtistIndexMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.bloomNegativeCounter = lookupsCounterForResultBuilder("bloom_negative").register(registry);
+        this.setCounter = lookupsCounterForResultBuilder("set").register(registry);
+        this.fallbackCounter = lookupsCounterForResultBuilder("fallback").register(registry);
+        this.loadsCounter = Counter
+            .builder(LOADS_METER_NAME)
+            .description("Number of members whose liked artist ids were loaded from the database.")
+            .register(registry);
+        this.evictionsCounter = Counter
+            .builder(EVICTIONS_METER_NAME)
+            .description("Number of cold members evicted to stay within the memory budget.")
+            .register(registry);
+    }
+
+    private Counter.Builder lookupsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(LOOKUPS_METER_NAME)
+            .baseUnit("lookups")
+            .description("Indicates liked-by-me lookups by the structure that answered them.")
+            .tag(LOOKUPS_METER_RESULT_DIMENSION, result);
+    }
+
+    public void registerSize(Supplier<Number> members, Supplier<Number> ids) {
+        Gauge.builder(MEMBERS_METER_NAME, members).description("Number of members held in the liked artist index.").register(registry);
+        Gauge.builder(IDS_METER_NAME, ids).description("Number of liked artist ids held in the liked artist index.").register(registry);
+    }
+
+    public void trackLookups(int bloomNegatives, int setLookups) {
+        this.bloomNegativeCounter.increment(bloomNegatives);
+        this.setCounter.increment(setLookups);
+    }
+
+    public void trackFallback(int lookups) {
+        this.fallbackCounter.increment(lookups);
+    }
+
+    public void trackLoad() {
+        this.loadsCounter.increment();
+    }
+
+    public void trackEvictions(int members) {
+        this.evictionsCounter.increment(members);
+    }
+}
@@ -0,0 +1,75 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MemberConsumerMetersService {
+
+    public static final String BATCH_SIZE_METER_NAME = "artist.member.consumer.batch.size";
+    public static final String COALESCED_SIZE_METER_NAME = "artist.member.consumer.batch.coalesced";
+    public static final String INVALID_RECORDS_METER_NAME = "artist.member.consumer.invalid-records";
+    public static final String LAG_METER_NAME = "artist.member.consumer.lag";
+
+    private final MeterRegistry registry;
+
+    private final DistributionSummary batchSizeSummary;
+    private final DistributionSummary coalescedSizeSummary;
+    private final Counter invalidRecordsCounter;
+
+    private final Map<TopicPartition, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    public MemberConsumerMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.batchSizeSummary = DistributionSummary
+            .builder(BATCH_SIZE_METER_NAME)
+            .baseUnit("records")
+            .description("Number of member-name records received per poll.")
+            .register(registry);
+        this.coalescedSizeSummary = DistributionSummary
+            .builder(COALESCED_SIZE_METER_NAME)
+            .baseUnit("members")
+            .description("Number of distinct members applied per batch after coalescing.")
+            .register(registry);
+        this.invalidRecordsCounter = Counter
+            .builder(INVALID_RECORDS_METER_NAME)
+            .baseUnit("records")
+            .description("Indicates member-name records that could not be parsed and were skipped.")
+            .register(registry);
+    }
+
+    public void trackBatch(int received, int coalesced) {
+        this.batchSizeSummary.record(received);
+        this.coalescedSizeSummary.record(coalesced);
+    }
+
+    public void trackInvalidRecord() {
+        this.invalidRecordsCounter.increment();
+    }
+
+    public void trackLag(TopicPartition partition, long lag) {
+        lags
+            .computeIfAbsent(
+                partition,
+                tp -> {
+                    AtomicLong value = new AtomicLong();
+                    Gauge
+                        .builder(LAG_METER_NAME, value, AtomicLong::get)
+                        .baseUnit("records")
+                        .description("Number of member-name records not yet consumed on the partition.")
+                        .tag("topic", tp.topic())
+                        .tag("partition", String.valueOf(tp.partition()))
+                        .register(registry);
+                    return value;
+                }
+            )
+            .set(lag);
+    }
+}
@@ -0,0 +1,45 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MemberOutboxMetersService {
+
+    public static final String RECORDS_METER_NAME = "artist.member.outbox.records";
+    public static final String RECORDS_METER_RESULT_DIMENSION = "result";
+    public static final String RELAY_METER_NAME = "artist.member.outbox.relay";
+
+    private final Counter enqueuedCounter;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer relayTimer;
+
+    public MemberOutboxMetersService(MeterRegistry registry) {
+        this.enqueuedCounter = recordsCounterForResultBuilder("enqueued").register(registry);
+        this.publishedCounter = recordsCounterForResultBuilder("published").register(registry);
+        this.failedCounter = recordsCounterForResultBuilder("failed").register(registry);
+        this.relayTimer = Timer.builder(RELAY_METER_NAME).description("Time taken to relay one batch of outbox records.").register(registry);
+    }
+
+    private Counter.Builder recordsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(RECORDS_METER_NAME)
+            .baseUnit("records")
+            .description("Indicates member-name outbox records by relay result.")
+            .tag(RECORDS_METER_RESULT_DIMENSION, result);
+    }
+
+    public void trackEnqueued() {
+        this.enqueuedCounter.increment();
+    }
+
+    public void trackRelay(int published, int failed, long elapsedNanos) {
+        this.publishedCounter.increment(published);
+        this.failedCounter.increment(failed);
+        this.relayTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
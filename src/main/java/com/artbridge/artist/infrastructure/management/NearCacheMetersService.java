@@ -0,0 +1,85 @@
+package com.artbridge.artist.infrastructure.management;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.nearcache.NearCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.util.function.ToDoubleFunction;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 도메인 엔티티 2차 캐시 region 별 near cache 통계를 Micrometer 로 노출합니다.
+ */
+@Service
+public class NearCacheMetersService {
+
+    public static final String HITS_METER_NAME = "artist.cache.near.hits";
+    public static final String MISSES_METER_NAME = "artist.cache.near.misses";
+    public static final String EVICTIONS_METER_NAME = "artist.cache.near.evictions";
+    public static final String INVALIDATIONS_METER_NAME = "artist.cache.near.invalidations";
+    public static final String ENTRIES_METER_NAME = "artist.cache.near.entries";
+    public static final String REGION_DIMENSION = "region";
+
+    private static final String DOMAIN_REGION_PREFIX = "com.artbridge.artist.domain.";
+
+    private final Logger log = LoggerFactory.getLogger(NearCacheMetersService.class);
+
+    private final MeterRegistry registry;
+
+    private final HazelcastInstance hazelcastInstance;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public NearCacheMetersService(MeterRegistry registry, HazelcastInstance hazelcastInstance, EntityManagerFactory entityManagerFactory) {
+        this.registry = registry;
+        this.hazelcastInstance = hazelcastInstance;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerRegions() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        sessionFactory
+            .getCache()
+            .getCacheRegionNames()
+            .stream()
+            .filter(region -> region.startsWith(DOMAIN_REGION_PREFIX))
+            .forEach(this::registerRegion);
+    }
+
+    public void registerRegion(String region) {
+        IMap<?, ?> map = hazelcastInstance.getMap(region);
+        if (map.getLocalMapStats().getNearCacheStats() == null) {
+            log.debug("Near cache is not enabled for region {}", region);
+            return;
+        }
+        Tags tags = Tags.of(REGION_DIMENSION, region);
+        counter(HITS_METER_NAME, "Near cache hits, served without a network hop.", map, tags, NearCacheStats::getHits);
+        counter(MISSES_METER_NAME, "Near cache misses, served by the owning member.", map, tags, NearCacheStats::getMisses);
+        counter(EVICTIONS_METER_NAME, "Near cache entries evicted by the size or idle policy.", map, tags, NearCacheStats::getEvictions);
+        counter(INVALIDATIONS_METER_NAME, "Near cache entries invalidated by updates.", map, tags, NearCacheStats::getInvalidations);
+        Gauge
+            .builder(ENTRIES_METER_NAME, map, m -> m.getLocalMapStats().getNearCacheStats().getOwnedEntryCount())
+            .description("Number of entries held in the near cache.")
+            .tags(tags)
+            .register(registry);
+        log.debug("Registered near cache meters for region {}", region);
+    }
+
+    private void counter(String name, String description, IMap<?, ?> map, Tags tags, ToDoubleFunction<NearCacheStats> stat) {
+        FunctionCounter
+            .builder(name, map, m -> stat.applyAsDouble(m.getLocalMapStats().getNearCacheStats()))
+            .description(description)
+            .tags(tags)
+            .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.artbridge.artist.infrastructure.management;
+
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * API 요청마다 Hibernate 가 준비한 SQL statement 수와 읽은 엔티티 수를 {@link QueryCountMetersService} 에 기록합니다.
+ * <p>
+ * statement 수가 query budget 을 넘은 요청은 엔드포인트별로 세고, 같은 statement 가 가장 길게 반복된 구간과 함께 경고로 남깁니다.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private static final String UNMATCHED_URI = "UNMATCHED";
+
+    private final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+
+    private final QueryCountMetersService queryCountMetersService;
+
+    private final int maxStatementsPerRequest;
+
+    public QueryCountFilter(QueryCountMetersService queryCountMetersService, ApplicationProperties applicationProperties) {
+        this.queryCountMetersService = queryCountMetersService;
+        this.maxStatementsPerRequest = applicationProperties.getQueryBudget().getMaxStatementsPerRequest();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(request.getContextPath() + API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        QueryCountInspector.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountInspector.QueryCount count = QueryCountInspector.end();
+            queryCountMetersService.trackRequest(count.getStatements(), count.getEntities());
+            log.trace(
+                "{} {} prepared {} statements and loaded {} entities",
+                request.getMethod(),
+                request.getRequestURI(),
+                count.getStatements(),
+                count.getEntities()
+            );
+            if (maxStatementsPerRequest > 0 && count.getStatements() > maxStatementsPerRequest) {
+                this.overBudget(request, count);
+            }
+        }
+    }
+
+    private void overBudget(HttpServletRequest request, QueryCountInspector.QueryCount count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNMATCHED_URI : pattern.toString();
+        queryCountMetersService.trackBudgetExceeded(request.getMethod(), uri);
+        log.warn(
+            "{} {} prepared {} statements, over the budget of {}. Longest run of the same statement: {} x {}",
+            request.getMethod(),
+            uri,
+            count.getStatements(),
+            maxStatementsPerRequest,
+            count.getLongestRun(),
+            count.getLongestRunSql()
+        );
+    }
+}
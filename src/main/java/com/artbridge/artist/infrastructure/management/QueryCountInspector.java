@@ -0,0 +1,95 @@
+package com.artbridge.artist.infrastructure.management;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 SQL statement 수와 읽은 엔티티 수를 현재 스레드의 요청 단위로 셉니다.
+ * <p>
+ * {@code hibernate.session_factory.statement_inspector} 로 등록되며, {@link #begin()} 과 {@link #end()} 사이에서만 셉니다.
+ * 같은 SQL 이 연달아 실행된 가장 긴 구간도 함께 기록해 N+1 조회를 찾을 수 있게 합니다.
+ * JdbcTemplate 으로 직접 실행하는 SQL 은 포함되지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<QueryCount> COUNT = new ThreadLocal<>();
+
+    public static void begin() {
+        COUNT.set(new QueryCount());
+    }
+
+    /**
+     * @return {@link #begin()} 이후의 집계, begin 없이 호출되면 빈 집계
+     */
+    public static QueryCount end() {
+        QueryCount count = COUNT.get();
+        COUNT.remove();
+        return count == null ? new QueryCount() : count;
+    }
+
+    /**
+     * {@link EntityLoadCountListener} 가 엔티티를 읽을 때마다 호출합니다.
+     */
+    static void entityLoaded() {
+        QueryCount count = COUNT.get();
+        if (count != null) {
+            count.entities++;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        QueryCount count = COUNT.get();
+        if (count != null) {
+            count.statement(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * 한 요청의 statement 수, 엔티티 수, 같은 statement 가 연달아 실행된 가장 긴 구간.
+     */
+    public static final class QueryCount {
+
+        private int statements;
+
+        private int entities;
+
+        private String lastSql;
+
+        private int run;
+
+        private int longestRun;
+
+        private String longestRunSql;
+
+        private void statement(String sql) {
+            statements++;
+            if (sql.equals(lastSql)) {
+                run++;
+            } else {
+                lastSql = sql;
+                run = 1;
+            }
+            if (run > longestRun) {
+                longestRun = run;
+                longestRunSql = sql;
+            }
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public int getEntities() {
+            return entities;
+        }
+
+        public int getLongestRun() {
+            return longestRun;
+        }
+
+        public String getLongestRunSql() {
+            return longestRunSql;
+        }
+    }
+}
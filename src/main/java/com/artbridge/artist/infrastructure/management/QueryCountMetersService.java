@@ -0,0 +1,70 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+@Service
+public class QueryCountMetersService {
+
+    public static final String QUERIES_PER_REQUEST_METER_NAME = "artist.hibernate.queries.per.request";
+    public static final String ENTITIES_PER_REQUEST_METER_NAME = "artist.hibernate.entities.per.request";
+    public static final String BUDGET_EXCEEDED_METER_NAME = "artist.hibernate.query.budget.exceeded";
+    public static final String METHOD_DIMENSION = "method";
+    public static final String URI_DIMENSION = "uri";
+
+    private final MeterRegistry registry;
+
+    private final DistributionSummary queriesPerRequestSummary;
+    private final DistributionSummary entitiesPerRequestSummary;
+
+    public QueryCountMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.queriesPerRequestSummary = DistributionSummary
+            .builder(QUERIES_PER_REQUEST_METER_NAME)
+            .baseUnit("statements")
+            .description("Number of SQL statements prepared by Hibernate per API request.")
+            .register(registry);
+        this.entitiesPerRequestSummary = DistributionSummary
+            .builder(ENTITIES_PER_REQUEST_METER_NAME)
+            .baseUnit("entities")
+            .description("Number of entities loaded by Hibernate per API request.")
+            .register(registry);
+    }
+
+    public void trackRequest(int statements, int entities) {
+        this.queriesPerRequestSummary.record(statements);
+        this.entitiesPerRequestSummary.record(entities);
+    }
+
+    public void trackBudgetExceeded(String method, String uri) {
+        Counter
+            .builder(BUDGET_EXCEEDED_METER_NAME)
+            .baseUnit("requests")
+            .description("Number of API requests that prepared more SQL statements than the query budget.")
+            .tags(METHOD_DIMENSION, method, URI_DIMENSION, uri)
+            .register(registry)
+            .increment();
+    }
+
+    public long getRequestCount() {
+        return this.queriesPerRequestSummary.count();
+    }
+
+    public double getMeanQueriesPerRequest() {
+        return this.queriesPerRequestSummary.mean();
+    }
+
+    public double getMaxQueriesPerRequest() {
+        return this.queriesPerRequestSummary.max();
+    }
+
+    public double getMeanEntitiesPerRequest() {
+        return this.entitiesPerRequestSummary.mean();
+    }
+
+    public double getBudgetExceededCount() {
+        return registry.find(BUDGET_EXCEEDED_METER_NAME).counters().stream().mapToDouble(Counter::count).sum();
+    }
+}
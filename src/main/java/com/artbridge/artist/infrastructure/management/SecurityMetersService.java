@@ -1,7 +1,12 @@
 package com.artbridge.artist.infrastructure.management;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,17 +17,51 @@ public class SecurityMetersService {
         "Indicates validation error count of the tokens presented by the clients.";
     public static final String INVALID_TOKENS_METER_BASE_UNIT = "errors";
     public static final String INVALID_TOKENS_METER_CAUSE_DIMENSION = "cause";
+    public static final String TOKEN_CACHE_METER_NAME = "security.authentication.token-cache";
+    public static final String TOKEN_CACHE_METER_RESULT_DIMENSION = "result";
+    public static final String TOKEN_CACHE_SIZE_METER_NAME = "security.authentication.token-cache.size";
+    public static final String TOKEN_CACHE_SAVED_METER_NAME = "security.authentication.token-cache.saved";
+    public static final String TOKEN_VERIFICATION_METER_NAME = "security.authentication.token-verification";
+
+    private final MeterRegistry registry;
 
     private final Counter tokenInvalidSignatureCounter;
     private final Counter tokenExpiredCounter;
     private final Counter tokenUnsupportedCounter;
     private final Counter tokenMalformedCounter;
+    private final Counter tokenCacheHitCounter;
+    private final Counter tokenCacheMissCounter;
+    private final Timer tokenVerificationTimer;
 
     public SecurityMetersService(MeterRegistry registry) {
+        this.registry = registry;
         this.tokenInvalidSignatureCounter = invalidTokensCounterForCauseBuilder("invalid-signature").register(registry);
         this.tokenExpiredCounter = invalidTokensCounterForCauseBuilder("expired").register(registry);
         this.tokenUnsupportedCounter = invalidTokensCounterForCauseBuilder("unsupported").register(registry);
         this.tokenMalformedCounter = invalidTokensCounterForCauseBuilder("malformed").register(registry);
+        this.tokenCacheHitCounter = tokenCacheCounterForResultBuilder("hit").register(registry);
+        this.tokenCacheMissCounter = tokenCacheCounterForResultBuilder("miss").register(registry);
+        this.tokenVerificationTimer = Timer
+            .builder(TOKEN_VERIFICATION_METER_NAME)
+            .description("Time taken to verify the signature of a token and parse its claims.")
+            .register(registry);
+        FunctionCounter
+            .builder(TOKEN_CACHE_SAVED_METER_NAME, this, meters -> meters.estimateSavedSeconds())
+            .baseUnit("seconds")
+            .description("Estimated verification time saved by token cache hits (hits x mean verification time).")
+            .register(registry);
+    }
+
+    private Counter.Builder tokenCacheCounterForResultBuilder(String result) {
+        return Counter
+            .builder(TOKEN_CACHE_METER_NAME)
+            .baseUnit("lookups")
+            .description("Indicates verified token cache lookups by result.")
+            .tag(TOKEN_CACHE_METER_RESULT_DIMENSION, result);
+    }
+
+    private double estimateSavedSeconds() {
+        return this.tokenCacheHitCounter.count() * this.tokenVerificationTimer.mean(TimeUnit.SECONDS);
     }
 
     private Counter.Builder invalidTokensCounterForCauseBuilder(String cause) {
@@ -48,4 +87,17 @@ public class SecurityMetersService {
     public void trackTokenMalformed() {
         this.tokenMalformedCounter.increment();
     }
+
+    public void registerTokenCache(Map<?, ?> cache) {
+        Gauge.builder(TOKEN_CACHE_SIZE_METER_NAME, cache, Map::size).description("Number of verified tokens held in the cache.").register(registry);
+    }
+
+    public void trackTokenCacheHit() {
+        this.tokenCacheHitCounter.increment();
+    }
+
+    public void trackTokenCacheMiss(long verificationNanos) {
+        this.tokenCacheMissCounter.increment();
+        this.tokenVerificationTimer.record(verificationNanos, TimeUnit.NANOSECONDS);
+    }
 }
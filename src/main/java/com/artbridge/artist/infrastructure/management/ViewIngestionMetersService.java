@@ -0,0 +1,70 @@
+package com.artbridge.artist.infrastructure.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ViewIngestionMetersService {
+
+    public static final String QUEUE_DEPTH_METER_NAME = "artist.view.ingestion.queue.depth";
+    public static final String BATCH_SIZE_METER_NAME = "artist.view.ingestion.batch.size";
+    public static final String FLUSH_LATENCY_METER_NAME = "artist.view.ingestion.flush.latency";
+    public static final String EVENTS_METER_NAME = "artist.view.ingestion.events";
+    public static final String EVENTS_METER_RESULT_DIMENSION = "result";
+
+    private final MeterRegistry registry;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    public ViewIngestionMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.batchSizeSummary = DistributionSummary
+            .builder(BATCH_SIZE_METER_NAME)
+            .baseUnit("events")
+            .description("Number of view events written per batch insert.")
+            .register(registry);
+        this.flushTimer = Timer.builder(FLUSH_LATENCY_METER_NAME).description("Time taken to write one batch of view events.").register(registry);
+        this.acceptedCounter = eventsCounterForResultBuilder("accepted").register(registry);
+        this.rejectedCounter = eventsCounterForResultBuilder("rejected").register(registry);
+        this.droppedCounter = eventsCounterForResultBuilder("dropped").register(registry);
+    }
+
+    private Counter.Builder eventsCounterForResultBuilder(String result) {
+        return Counter
+            .builder(EVENTS_METER_NAME)
+            .baseUnit("events")
+            .description("Indicates view events offered to the ingestion buffer.")
+            .tag(EVENTS_METER_RESULT_DIMENSION, result);
+    }
+
+    public void registerQueue(Collection<?> queue) {
+        Gauge.builder(QUEUE_DEPTH_METER_NAME, queue, Collection::size).description("Number of view events waiting to be written.").register(registry);
+    }
+
+    public void trackAccepted() {
+        this.acceptedCounter.increment();
+    }
+
+    public void trackRejected() {
+        this.rejectedCounter.increment();
+    }
+
+    public void trackDropped(int count) {
+        this.droppedCounter.increment(count);
+    }
+
+    public void trackFlush(int batchSize, long elapsedNanos) {
+        this.batchSizeSummary.record(batchSize);
+        this.flushTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -1,48 +1,89 @@
 package com.artbridge.artist.infrastructure.messaging;
 
-import com.artbridge.artist.application.service.ArtistService;
-import com.artbridge.artist.application.service.CommentService;
+import com.artbridge.artist.application.service.MemberService;
+import com.artbridge.artist.infrastructure.configuration.KafkaConfiguration;
+import com.artbridge.artist.infrastructure.management.MemberConsumerMetersService;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 public class MemberConsumer {
 
-    private final ArtistService artistService;
-    private final CommentService commentService;
+    private final MemberService memberService;
+    private final ObjectMapper objectMapper;
+    private final MemberConsumerMetersService memberConsumerMetersService;
 
     private static final String TOPIC_MEMBER_NAME_REQUEST = "member-name";
 
-    public MemberConsumer(ArtistService artistService, CommentService commentService) {
-        this.artistService = artistService;
-        this.commentService = commentService;
+    public MemberConsumer(MemberService memberService, ObjectMapper objectMapper, MemberConsumerMetersService memberConsumerMetersService) {
+        this.memberService = memberService;
+        this.objectMapper = objectMapper;
+        this.memberConsumerMetersService = memberConsumerMetersService;
     }
 
+    /**
+     * 회원 이름 변경 메시지를 batch 로 받아, 회원별 마지막 이름만 남긴 뒤 하나의 트랜잭션으로 반영합니다.
+     * offset 은 트랜잭션이 커밋된 뒤에만 acknowledge 되므로, 실패한 batch 는 다시 전달됩니다.
+     *
+     * @param records 한 번의 poll 로 받은 레코드 목록
+     * @param acknowledgment offset 커밋용 acknowledgment
+     * @param consumer lag 측정용 consumer
+     */
+    @KafkaListener(
+        topics = TOPIC_MEMBER_NAME_REQUEST,
+        groupId = "my-group",
+        containerFactory = KafkaConfiguration.BATCH_LISTENER_CONTAINER_FACTORY,
+        properties = "max.poll.records:${application.member-consumer.max-poll-records:500}"
+    )
+    public void processMessages(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        log.debug("MemberConsumer: received {} records", records.size());
 
-    @KafkaListener(topics = TOPIC_MEMBER_NAME_REQUEST, groupId = "my-group")
-    public void processMessage(String MemberNameDTOStr) {
-        log.info("MemberConsumer: {}", MemberNameDTOStr);
+        Map<Long, String> names = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            MemberNameChangedDTO memberNameChangedDTO = this.parse(record);
+            if (memberNameChangedDTO != null) {
+                names.put(memberNameChangedDTO.getId(), memberNameChangedDTO.getName());
+            }
+        }
 
-        Map<Object, Object> map = new HashMap<>();
-        ObjectMapper mapper = new ObjectMapper();
+        memberService.modifyMemberNames(names);
+        acknowledgment.acknowledge();
 
+        memberConsumerMetersService.trackBatch(records.size(), names.size());
+        this.trackLag(records, consumer);
+        log.info("MemberNameRequestConsumer: applied {} member names from {} records", names.size(), records.size());
+    }
 
+    private MemberNameChangedDTO parse(ConsumerRecord<String, String> record) {
         try {
-            map = mapper.readValue(MemberNameDTOStr, new TypeReference<Map<Object, Object>>() {});
+            MemberNameChangedDTO memberNameChangedDTO = objectMapper.readValue(record.value(), MemberNameChangedDTO.class);
+            if (memberNameChangedDTO.getId() != null && memberNameChangedDTO.getName() != null) {
+                return memberNameChangedDTO;
+            }
         } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            log.trace("Invalid member-name record", e);
         }
+        log.warn("Skipping invalid member-name record at {}-{}@{}", record.topic(), record.partition(), record.offset());
+        memberConsumerMetersService.trackInvalidRecord();
+        return null;
+    }
 
-        artistService.modifyMemberName(Long.parseLong(map.get("id").toString()), map.get("name").toString());
-        commentService.modifyMemberName(Long.parseLong(map.get("id").toString()), map.get("name").toString());
-        log.info("MemberNameRequestConsumer: {}", map.get("id"));
+    private void trackLag(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        Set<TopicPartition> partitions = records.stream().map(record -> new TopicPartition(record.topic(), record.partition())).collect(Collectors.toSet());
+        partitions.forEach(partition -> consumer.currentLag(partition).ifPresent(lag -> memberConsumerMetersService.trackLag(partition, lag)));
     }
 }
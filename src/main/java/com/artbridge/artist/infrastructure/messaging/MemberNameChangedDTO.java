@@ -0,0 +1,19 @@
+package com.artbridge.artist.infrastructure.messaging;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemberNameChangedDTO implements Serializable {
+    Long id;
+    String name;
+}
@@ -1,7 +1,14 @@
 package com.artbridge.artist.infrastructure.messaging;
 
-public interface MemberProducer {
+import org.springframework.util.concurrent.ListenableFuture;
 
-    void requestMemberName(Long id);
+public interface MemberProducer {
 
+    /**
+     * 회원 이름 요청을 발행합니다. 중복 제거와 재시도는 호출하는 outbox relay 가 담당합니다.
+     *
+     * @param id 회원 ID
+     * @return broker 응답을 나타내는 future
+     */
+    ListenableFuture<?> publishMemberName(Long id);
 }
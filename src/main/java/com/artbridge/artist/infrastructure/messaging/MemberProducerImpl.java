@@ -4,14 +4,15 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.util.concurrent.ListenableFuture;
 
 @Slf4j
 @Service
 public class MemberProducerImpl implements MemberProducer {
-    /*TODO: - need refactoring*/
 
     // 토픽명
     private static final String TOPIC_MEMBERNAME = "member-name-request";
@@ -24,21 +25,17 @@ public class MemberProducerImpl implements MemberProducer {
         this.kafkaTemplate = kafkaTemplate;
     }
 
-
-
     @Override
-    public void requestMemberName(Long id) {
-        MemberNameDTO memberNameDTO = new MemberNameDTO(id);
+    public ListenableFuture<?> publishMemberName(Long id) {
+        return kafkaTemplate.send(this.createMessage(id));
+    }
+
+    private Message<byte[]> createMessage(Long id) {
         try {
-            String message = objectMapper.writeValueAsString(memberNameDTO);
+            String message = objectMapper.writeValueAsString(new MemberNameDTO(id));
             log.info("Request MemberName to Kafka Producer: {}", message);
-            Message<byte[]> kafkaMessage = MessageBuilder
-                .withPayload(message.getBytes())
-                .setHeader(KafkaHeaders.TOPIC, TOPIC_MEMBERNAME)
-                .build();
-            kafkaTemplate.send(kafkaMessage).get();
-            log.info("Request MemberName to Kafka Producer Success: {}", message);
-        } catch (Exception e) {
+            return MessageBuilder.withPayload(message.getBytes()).setHeader(KafkaHeaders.TOPIC, TOPIC_MEMBERNAME).build();
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
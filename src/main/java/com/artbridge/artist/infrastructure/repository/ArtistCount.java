@@ -0,0 +1,10 @@
+package com.artbridge.artist.infrastructure.repository;
+
+/**
+ * 아티스트별 집계 결과를 담는 interface projection.
+ */
+public interface ArtistCount {
+    Long getArtistId();
+
+    Long getCount();
+}
@@ -0,0 +1,117 @@
+package com.artbridge.artist.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * artist.like_count 비정규화 컬럼 전용 JDBC repository.
+ * <p>
+ * JPQL/네이티브 bulk update 는 Hibernate 2차 캐시 region 전체를 무효화하므로,
+ * 주기적으로 실행되는 카운터 flush 는 JdbcTemplate batch 로 직접 실행합니다.
+ * like_count 는 엔티티에서 insertable/updatable = false 로 매핑되어 있어 이 클래스만 값을 씁니다.
+ */
+@Repository
+public class ArtistLikeCountRepository {
+
+    private static final String ADD_LIKE_COUNT_SQL = "UPDATE artist SET like_count = COALESCE(like_count, 0) + ? WHERE id = ?";
+
+    private static final String RECONCILE_LIKE_COUNT_SQL =
+        "UPDATE artist a SET like_count = (SELECT COUNT(*) FROM jhi_like l WHERE l.artist_id = a.id)";
+
+    private static final String INITIALIZE_NULL_LIKE_COUNT_SQL =
+        "UPDATE artist a SET like_count = (SELECT COUNT(*) FROM jhi_like l WHERE l.artist_id = a.id) WHERE a.like_count IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArtistLikeCountRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 아티스트별 증감분을 JDBC batch 로 like_count 에 더합니다.
+     *
+     * @param deltas 아티스트 ID - 증감분
+     * @param batchSize 한 번에 전송할 최대 statement 수
+     */
+    public void addLikeCounts(Map<Long, Long> deltas, int batchSize) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((artistId, delta) -> args.add(new Object[] { delta, artistId }));
+        for (int from = 0; from < args.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(ADD_LIKE_COUNT_SQL, args.subList(from, Math.min(from + batchSize, args.size())));
+        }
+    }
+
+    /**
+     * 모든 아티스트의 like_count 를 jhi_like 기준으로 재계산합니다.
+     *
+     * @return 갱신된 row 수
+     */
+    public int reconcileLikeCounts() {
+        return jdbcTemplate.update(RECONCILE_LIKE_COUNT_SQL);
+    }
+
+    /**
+     * like_count 가 아직 채워지지 않은(null) 아티스트만 jhi_like 기준으로 초기화합니다.
+     *
+     * @return 갱신된 row 수
+     */
+    public int initializeNullLikeCounts() {
+        return jdbcTemplate.update(INITIALIZE_NULL_LIKE_COUNT_SQL);
+    }
+
+    /**
+     * 모든 아티스트의 like_count 를 조회합니다.
+     *
+     * @return 아티스트 ID - like_count
+     */
+    public Map<Long, Long> findAllLikeCounts() {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT id, COALESCE(like_count, 0) FROM artist",
+            rs -> {
+                likeCounts.put(rs.getLong(1), rs.getLong(2));
+            }
+        );
+        return likeCounts;
+    }
+
+    /**
+     * 특정 아티스트의 like_count 를 조회합니다.
+     *
+     * @param artistId 아티스트 ID
+     * @return like_count, 아티스트가 없으면 empty
+     */
+    public Optional<Long> findLikeCount(Long artistId) {
+        List<Long> result = jdbcTemplate.queryForList("SELECT COALESCE(like_count, 0) FROM artist WHERE id = ?", Long.class, artistId);
+        return result.stream().findFirst();
+    }
+
+    /**
+     * 여러 아티스트의 like_count 를 한 번에 조회합니다.
+     *
+     * @param artistIds 아티스트 ID 목록
+     * @return 아티스트 ID - like_count, 없는 아티스트는 포함되지 않습니다.
+     */
+    public Map<Long, Long> findLikeCounts(Collection<Long> artistIds) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        if (artistIds.isEmpty()) {
+            return likeCounts;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(artistIds.size(), "?"));
+        jdbcTemplate.query(
+            "SELECT id, COALESCE(like_count, 0) FROM artist WHERE id IN (" + placeholders + ")",
+            rs -> {
+                likeCounts.put(rs.getLong(1), rs.getLong(2));
+            },
+            artistIds.toArray()
+        );
+        return likeCounts;
+    }
+}
@@ -1,15 +1,19 @@
 package com.artbridge.artist.infrastructure.repository;
 
+import com.artbridge.artist.application.dto.ArtistSummaryDTO;
 import com.artbridge.artist.domain.model.Artist;
 import com.artbridge.artist.domain.standardType.Status;
 import com.carrotsearch.hppc.ByteArrayList;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 import java.util.Set;
+import javax.persistence.QueryHint;
 
 /**
  * Spring Data JPA repository for the Artist entity.
@@ -18,7 +22,32 @@ import java.util.Set;
 @Repository
 public interface ArtistRepository extends JpaRepository<Artist, Long> {
 
+    String SUMMARY_SELECT =
+        "select new com.artbridge.artist.application.dto.ArtistSummaryDTO(" +
+        "a.id, a.name, a.imgUrl, a.imgThumbnailUrl, a.artwork.title, a.createdMember.id, a.createdMember.name, a.status) " +
+        "from Artist a ";
+
     Page<Artist> findAllByStatusOrderByIdDesc(Pageable pageable, Status status);
 
     Set<Artist> findAllByCreatedMemberId(Long memberId);
+
+    /**
+     * 목록 화면용 projection. 카드에 필요한 컬럼만 조회해 {@link ArtistSummaryDTO} 로 바로 생성합니다.
+     * <p>
+     * 상태별 목록과 피드 첫 페이지는 쿼리 캐시에 보관합니다. artist 테이블을 Hibernate 로 변경하면 무효화되지만
+     * JDBC 로 갱신하는 like_count 는 무효화되지 않으므로 조회하지 않습니다. likeCount 는 서비스가 좋아요 카운터로 채웁니다.
+     */
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
+    @Query(
+        value = SUMMARY_SELECT + "where a.status = :status order by a.id desc",
+        countQuery = "select count(a) from Artist a where a.status = :status"
+    )
+    Page<ArtistSummaryDTO> findSummariesByStatus(@Param("status") Status status, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.CACHEABLE, value = "true"))
+    @Query(SUMMARY_SELECT + "where a.status = :status order by a.id desc")
+    Slice<ArtistSummaryDTO> findSummarySliceByStatus(@Param("status") Status status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "where a.status = :status and a.id < :lastId order by a.id desc")
+    Slice<ArtistSummaryDTO> findSummarySliceByStatusAfter(@Param("status") Status status, @Param("lastId") Long lastId, Pageable pageable);
 }
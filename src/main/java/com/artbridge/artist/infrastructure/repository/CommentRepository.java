@@ -3,9 +3,13 @@ package com.artbridge.artist.infrastructure.repository;
 import com.artbridge.artist.domain.model.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -18,5 +22,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByArtist_Id(Pageable pageable, Long artistId);
 
+    /**
+     * 아티스트 댓글 스트림 첫 페이지. count 쿼리 없이 size + 1 개를 조회해 다음 페이지 여부만 확인합니다.
+     */
+    Slice<Comment> findByArtist_IdOrderByIdDesc(Long artistId, Pageable pageable);
+
+    /**
+     * 아티스트 댓글 스트림 다음 페이지. (artist_id, id) 인덱스에서 lastId 다음 위치부터 seek 합니다.
+     */
+    Slice<Comment> findByArtist_IdAndIdLessThanOrderByIdDesc(Long artistId, Long lastId, Pageable pageable);
+
     Set<Comment> findCommentsByMember_Id(long id);
+
+    @Query("select c.artist.id as artistId, count(c) as count from Comment c where c.artist.id in :artistIds group by c.artist.id")
+    List<ArtistCount> countByArtistIds(@Param("artistIds") Collection<Long> artistIds);
 }
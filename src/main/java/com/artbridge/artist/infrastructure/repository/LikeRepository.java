@@ -1,7 +1,13 @@
 package com.artbridge.artist.infrastructure.repository;
 
 import com.artbridge.artist.domain.model.Like;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,9 +17,13 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-    boolean existsByArtist_IdAndMember_Id(Long artworkId, Long memberId);
+    Long countByArtist_Id(Long artistId);
 
-    void deleteByArtist_IdAndMember_Id(Long artistId, Long memberId);
+    Optional<Like> findByArtist_IdAndMember_Id(Long artistId, Long memberId);
 
-    Long countByArtist_Id(Long artistId);
+    @Query("select l.artist.id from Like l where l.member.id = :memberId and l.artist.id in :artistIds")
+    Set<Long> findLikedArtistIds(@Param("memberId") Long memberId, @Param("artistIds") Collection<Long> artistIds);
+
+    @Query("select l.artist.id from Like l where l.member.id = :memberId and l.artist.id is not null")
+    List<Long> findAllLikedArtistIds(@Param("memberId") Long memberId, Pageable pageable);
 }
@@ -0,0 +1,103 @@
+package com.artbridge.artist.infrastructure.repository;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원의 좋아요 on/off 를 한 statement 로 처리하는 JDBC repository.
+ * <p>
+ * jhi_like 의 (artist_id, member_id) unique 제약을 전제로, 좋아요는 이미 있으면 아무것도 하지 않는 INSERT,
+ * 취소는 조건 DELETE 한 번으로 처리합니다. 좋아요는 추가된 row 수를, 취소는 삭제된 Like ID 를 돌려줍니다.
+ * MariaDB/MySQL 에서는 INSERT IGNORE 를 사용하고, 그 외 DB 에서는 NOT EXISTS 조건 INSERT 후 동시 삽입으로 인한 중복 키 오류를 0 건으로 처리합니다.
+ * Hibernate 를 거치지 않으므로 2차 캐시 무효화는 호출하는 쪽에서 처리합니다.
+ */
+@Repository
+public class LikeToggleRepository {
+
+    private static final String INSERT_IGNORE_LIKE_SQL =
+        "INSERT IGNORE INTO jhi_like (id, member_id, member_login, member_name, artist_id) " +
+        "VALUES (NEXT VALUE FOR sequence_generator, ?, ?, ?, ?)";
+
+    private static final String INSERT_LIKE_IF_ABSENT_SQL =
+        "INSERT INTO jhi_like (id, member_id, member_login, member_name, artist_id) " +
+        "SELECT NEXT VALUE FOR sequence_generator, ?, ?, ?, ? FROM dual " +
+        "WHERE NOT EXISTS (SELECT 1 FROM jhi_like WHERE artist_id = ? AND member_id = ?)";
+
+    private static final String DELETE_LIKE_RETURNING_SQL = "DELETE FROM jhi_like WHERE artist_id = ? AND member_id = ? RETURNING id";
+
+    private static final String SELECT_LIKE_ID_SQL = "SELECT id FROM jhi_like WHERE artist_id = ? AND member_id = ?";
+
+    private static final String DELETE_LIKE_BY_ID_SQL = "DELETE FROM jhi_like WHERE id = ?";
+
+    private final Logger log = LoggerFactory.getLogger(LikeToggleRepository.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean insertIgnoreSupported;
+
+    private final boolean deleteReturningSupported;
+
+    public LikeToggleRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        String productName = databaseProductName(jdbcTemplate.getDataSource());
+        this.insertIgnoreSupported = "MariaDB".equalsIgnoreCase(productName) || "MySQL".equalsIgnoreCase(productName);
+        this.deleteReturningSupported = "MariaDB".equalsIgnoreCase(productName);
+    }
+
+    /**
+     * 좋아요가 없을 때만 추가합니다.
+     *
+     * @return 추가되었으면 1, 이미 있었으면 0
+     */
+    public int insertIfAbsent(Long artistId, Long memberId, String memberLogin, String memberName) {
+        if (insertIgnoreSupported) {
+            return jdbcTemplate.update(INSERT_IGNORE_LIKE_SQL, memberId, memberLogin, memberName, artistId);
+        }
+        try {
+            return jdbcTemplate.update(INSERT_LIKE_IF_ABSENT_SQL, memberId, memberLogin, memberName, artistId, artistId, memberId);
+        } catch (DuplicateKeyException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 좋아요를 취소합니다. 호출한 쪽이 삭제된 Like 만 2차 캐시에서 비울 수 있도록 삭제된 ID 를 돌려줍니다.
+     * MariaDB 에서는 DELETE ... RETURNING 한 statement 로, 그 외 DB 에서는 ID 를 조회한 뒤 삭제합니다.
+     *
+     * @return 삭제된 Like ID, 없었으면 빈 목록
+     */
+    public List<Long> delete(Long artistId, Long memberId) {
+        if (deleteReturningSupported) {
+            return jdbcTemplate.queryForList(DELETE_LIKE_RETURNING_SQL, Long.class, artistId, memberId);
+        }
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_LIKE_ID_SQL, Long.class, artistId, memberId);
+        List<Long> deleted = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            if (jdbcTemplate.update(DELETE_LIKE_BY_ID_SQL, id) > 0) {
+                deleted.add(id);
+            }
+        }
+        return deleted;
+    }
+
+    private String databaseProductName(DataSource dataSource) {
+        if (dataSource == null) {
+            return null;
+        }
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect the database product, falling back to portable statements for likes", e);
+            return null;
+        }
+    }
+}
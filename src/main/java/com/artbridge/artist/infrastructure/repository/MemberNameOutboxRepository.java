@@ -0,0 +1,50 @@
+package com.artbridge.artist.infrastructure.repository;
+
+import com.artbridge.artist.domain.model.MemberNameOutbox;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA repository for the MemberNameOutbox entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface MemberNameOutboxRepository extends JpaRepository<MemberNameOutbox, Long> {
+
+    /**
+     * 선점되지 않았거나 선점이 만료된 outbox 의 ID 를 오래된 순으로 조회합니다. lock 을 잡지 않습니다.
+     */
+    @Query("select o.id from MemberNameOutbox o where o.claimedUntil is null or o.claimedUntil < :now order by o.id asc")
+    List<Long> findClaimableIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 주어진 outbox 중 아직 선점 가능한 row 만 claimedBy 로 선점합니다.
+     * PK 로만 갱신하므로 해당 row 외에는 lock 을 잡지 않고, 동시에 실행된 다른 relay 가 선점한 row 는 건너뜁니다.
+     */
+    @Modifying
+    @Query(
+        "update MemberNameOutbox o set o.claimedBy = :claimedBy, o.claimedUntil = :claimedUntil" +
+        " where o.id in :ids and (o.claimedUntil is null or o.claimedUntil < :now)"
+    )
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("claimedBy") String claimedBy,
+        @Param("claimedUntil") Instant claimedUntil,
+        @Param("now") Instant now
+    );
+
+    List<MemberNameOutbox> findByClaimedByOrderByIdAsc(String claimedBy);
+
+    @Modifying
+    @Query("delete from MemberNameOutbox o where o.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update MemberNameOutbox o set o.attempts = o.attempts + 1, o.claimedBy = null, o.claimedUntil = null where o.id in :ids")
+    int releaseFailed(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,63 @@
+package com.artbridge.artist.infrastructure.repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 비정규화된 회원 이름을 회원 여러 명에 대해 JDBC batch 로 바꾸는 repository.
+ * <p>
+ * 테이블마다 {@code UPDATE ... SET member_name = ? WHERE member_id = ?} 한 statement 만 사용하므로 회원 수와 관계없이
+ * 같은 실행 계획을 재사용하고, {@link #BATCH_SIZE} 개씩 묶어 전송합니다. 2차 캐시 무효화는 호출하는 쪽에서 처리합니다.
+ */
+@Repository
+public class MemberNameRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String UPDATE_ARTIST_MEMBER_NAME_SQL = "UPDATE artist SET member_name = ? WHERE member_id = ?";
+
+    private static final String UPDATE_COMMENT_MEMBER_NAME_SQL = "UPDATE comment SET member_name = ? WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MemberNameRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 아티스트를 등록한 회원의 이름을 바꿉니다.
+     *
+     * @param names 회원 ID - 변경된 회원 이름
+     * @return 변경된 아티스트 수
+     */
+    public int updateArtistMemberNames(Map<Long, String> names) {
+        return update(UPDATE_ARTIST_MEMBER_NAME_SQL, names);
+    }
+
+    /**
+     * 댓글을 작성한 회원의 이름을 바꿉니다.
+     *
+     * @param names 회원 ID - 변경된 회원 이름
+     * @return 변경된 댓글 수
+     */
+    public int updateCommentMemberNames(Map<Long, String> names) {
+        return update(UPDATE_COMMENT_MEMBER_NAME_SQL, names);
+    }
+
+    private int update(String sql, Map<Long, String> names) {
+        List<Object[]> args = new ArrayList<>(names.size());
+        names.forEach((memberId, name) -> args.add(new Object[] { name, memberId }));
+        int updated = 0;
+        for (int from = 0; from < args.size(); from += BATCH_SIZE) {
+            for (int count : jdbcTemplate.batchUpdate(sql, args.subList(from, Math.min(from + BATCH_SIZE, args.size())))) {
+                // 드라이버가 row 수를 알려 주지 않으면(SUCCESS_NO_INFO) 호출하는 쪽이 캐시를 비우도록 한 건으로 셉니다.
+                updated += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+            }
+        }
+        return updated;
+    }
+}
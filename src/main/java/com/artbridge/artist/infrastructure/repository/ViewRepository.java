@@ -1,7 +1,10 @@
 package com.artbridge.artist.infrastructure.repository;
 
 import com.artbridge.artist.domain.model.View;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,8 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ViewRepository extends JpaRepository<View, Long> {}
+public interface ViewRepository extends JpaRepository<View, Long> {
+
+    @Query("select v.artist.id as artistId, count(v) as count from View v where v.artist.id in :artistIds group by v.artist.id")
+    List<ArtistCount> countByArtistIds(@Param("artistIds") Collection<Long> artistIds);
+}
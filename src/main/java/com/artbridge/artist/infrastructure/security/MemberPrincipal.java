@@ -0,0 +1,27 @@
+package com.artbridge.artist.infrastructure.security;
+
+import java.util.Collection;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * JWT 에서 읽은 회원 ID, 로그인, 권한을 담는 principal.
+ * <p>
+ * JWT 필터가 요청마다 한 번 만들어 SecurityContext 에 넣으므로, 컨트롤러는 토큰을 다시 파싱하지 않고
+ * {@code @AuthenticationPrincipal} 이나 {@link SecurityUtils#getCurrentMember()} 로 회원 정보를 얻습니다.
+ */
+public class MemberPrincipal extends User {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long userId;
+
+    public MemberPrincipal(Long userId, String login, Collection<? extends GrantedAuthority> authorities) {
+        super(login, "", authorities);
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
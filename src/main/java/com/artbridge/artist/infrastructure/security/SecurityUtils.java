@@ -38,6 +38,28 @@ public final class SecurityUtils {
         return null;
     }
 
+    /**
+     * Get the principal of the current member, set once per request by the JWT filter.
+     *
+     * @return the principal of the current member, empty if the request is not authenticated with a JWT.
+     */
+    public static Optional<MemberPrincipal> getCurrentMember() {
+        return Optional
+            .ofNullable(SecurityContextHolder.getContext().getAuthentication())
+            .map(Authentication::getPrincipal)
+            .filter(MemberPrincipal.class::isInstance)
+            .map(MemberPrincipal.class::cast);
+    }
+
+    /**
+     * Get the id of the current member without parsing the JWT again.
+     *
+     * @return the id of the current member.
+     */
+    public static Optional<Long> getCurrentUserId() {
+        return getCurrentMember().map(MemberPrincipal::getUserId);
+    }
+
     /**
      * Get the JWT of the current user.
      *
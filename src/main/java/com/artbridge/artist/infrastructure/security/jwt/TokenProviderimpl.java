@@ -1,13 +1,19 @@
 package com.artbridge.artist.infrastructure.security.jwt;
 
+import com.artbridge.artist.infrastructure.configuration.ApplicationProperties;
 import com.artbridge.artist.infrastructure.management.SecurityMetersService;
+import com.artbridge.artist.infrastructure.security.MemberPrincipal;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,11 +21,17 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
 import tech.jhipster.config.JHipsterProperties;
 
+/**
+ * JWT 생성/검증 구현.
+ * <p>
+ * 서명 검증과 claims 파싱 결과({@link MemberPrincipal})를 토큰의 SHA-256 digest 를 키로 토큰 만료 시각까지 캐시합니다.
+ * 같은 토큰으로 들어온 요청은 필터와 컨트롤러에서 여러 번 조회해도 서명 검증은 처음 한 번만 수행합니다.
+ * 검증에 실패한 토큰은 캐시하지 않습니다.
+ */
 @Component
 public class TokenProviderimpl implements TokenProvider {
 
@@ -27,8 +39,18 @@ public class TokenProviderimpl implements TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
 
+    private static final String USER_ID_KEY = "userId";
+
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,7 +61,17 @@ public class TokenProviderimpl implements TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
-    public TokenProviderimpl(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
+    private final ConcurrentHashMap<ByteBuffer, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+
+    private final boolean tokenCacheEnabled;
+
+    private final int tokenCacheMaxSize;
+
+    public TokenProviderimpl(
+        JHipsterProperties jHipsterProperties,
+        SecurityMetersService securityMetersService,
+        ApplicationProperties applicationProperties
+    ) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
         if (!ObjectUtils.isEmpty(secret)) {
@@ -60,6 +92,9 @@ public class TokenProviderimpl implements TokenProvider {
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
 
         this.securityMetersService = securityMetersService;
+        this.tokenCacheEnabled = applicationProperties.getTokenCache().isEnabled();
+        this.tokenCacheMaxSize = applicationProperties.getTokenCache().getMaxSize();
+        securityMetersService.registerTokenCache(verifiedTokens);
     }
 
     @Override
@@ -85,30 +120,20 @@ public class TokenProviderimpl implements TokenProvider {
 
     @Override
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        VerifiedToken verifiedToken = verify(token);
 
-        Collection<? extends GrantedAuthority> authorities = Arrays
-            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .filter(auth -> !auth.trim().isEmpty())
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
-
-        User principal = new User(claims.getSubject(), "", authorities);
-
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        return new UsernamePasswordAuthenticationToken(verifiedToken.principal, token, verifiedToken.principal.getAuthorities());
     }
 
     @Override
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-
-        return claims.get("userId", Long.class);
+        return verify(token).principal.getUserId();
     }
 
     @Override
     public boolean validateToken(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
+            verify(authToken);
 
             return true;
         } catch (ExpiredJwtException e) {
@@ -133,4 +158,81 @@ public class TokenProviderimpl implements TokenProvider {
 
         return false;
     }
+
+    /**
+     * 캐시에 있고 만료되지 않은 토큰은 그대로 반환하고, 없으면 서명을 검증해 캐시에 넣습니다.
+     *
+     * @throws JwtException 토큰이 유효하지 않은 경우
+     */
+    private VerifiedToken verify(String token) {
+        ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        long now = System.currentTimeMillis();
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (now < cached.expiresAt) {
+                securityMetersService.trackTokenCacheHit();
+                return cached;
+            }
+            verifiedTokens.remove(digest, cached);
+        }
+
+        long start = System.nanoTime();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        VerifiedToken verifiedToken = new VerifiedToken(toPrincipal(claims), expiresAt(claims, now));
+        securityMetersService.trackTokenCacheMiss(System.nanoTime() - start);
+
+        if (tokenCacheEnabled) {
+            verifiedTokens.put(digest, verifiedToken);
+            if (verifiedTokens.size() > tokenCacheMaxSize) {
+                evictTokens(now);
+            }
+        }
+        return verifiedToken;
+    }
+
+    private MemberPrincipal toPrincipal(Claims claims) {
+        Collection<? extends GrantedAuthority> authorities = Arrays
+            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+            .filter(auth -> !auth.trim().isEmpty())
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+
+        return new MemberPrincipal(claims.get(USER_ID_KEY, Long.class), claims.getSubject(), authorities);
+    }
+
+    private long expiresAt(Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        return expiration == null ? now + tokenValidityInMilliseconds : expiration.getTime();
+    }
+
+    /**
+     * 만료된 토큰을 먼저 제거하고, 그래도 크기를 넘으면 만료가 가까운 토큰부터 최대 크기의 90% 까지 제거합니다.
+     */
+    private synchronized void evictTokens(long now) {
+        verifiedTokens.values().removeIf(verifiedToken -> verifiedToken.expiresAt <= now);
+        int target = tokenCacheMaxSize - tokenCacheMaxSize / 10;
+        if (verifiedTokens.size() <= target) {
+            return;
+        }
+        List<Map.Entry<ByteBuffer, VerifiedToken>> entries = new ArrayList<>(verifiedTokens.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().expiresAt));
+        for (Map.Entry<ByteBuffer, VerifiedToken> entry : entries) {
+            if (verifiedTokens.size() <= target) {
+                break;
+            }
+            verifiedTokens.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static final class VerifiedToken {
+
+        private final MemberPrincipal principal;
+
+        private final long expiresAt;
+
+        VerifiedToken(MemberPrincipal principal, long expiresAt) {
+            this.principal = principal;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
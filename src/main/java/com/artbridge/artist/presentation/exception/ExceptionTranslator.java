@@ -1,5 +1,6 @@
 package com.artbridge.artist.presentation.exception;
 
+import com.artbridge.artist.application.exception.ArtistNotFoundException;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
@@ -130,6 +131,17 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         return create(ex, problem, request);
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleArtistNotFound(ArtistNotFoundException ex, NativeWebRequest request) {
+        Problem problem = Problem
+            .builder()
+            .withStatus(Status.NOT_FOUND)
+            .withDetail(ex.getMessage())
+            .with(MESSAGE_KEY, ErrorConstants.ERR_ARTIST_NOT_FOUND)
+            .build();
+        return create(ex, problem, request);
+    }
+
     @Override
     public ProblemBuilder prepare(final Throwable throwable, final StatusType status, final URI type) {
         Collection<String> activeProfiles = Arrays.asList(env.getActiveProfiles());
@@ -1,21 +1,28 @@
 package com.artbridge.artist.presentation.rest;
 
-import com.artbridge.artist.infrastructure.gcs.GCSService;
+import com.artbridge.artist.application.exception.ArtistImageNotUploadedException;
 import com.artbridge.artist.domain.model.Artist;
 import com.artbridge.artist.infrastructure.repository.ArtistRepository;
+import com.artbridge.artist.infrastructure.image.UnsupportedImageFormatException;
 import com.artbridge.artist.infrastructure.security.AuthoritiesConstants;
 import com.artbridge.artist.infrastructure.security.SecurityUtils;
-import com.artbridge.artist.infrastructure.security.jwt.TokenProvider;
+import com.artbridge.artist.infrastructure.security.MemberPrincipal;
+import com.artbridge.artist.application.service.ArtistEngagementService;
 import com.artbridge.artist.application.service.ArtistService;
+import com.artbridge.artist.application.service.ImageUploadService;
 import com.artbridge.artist.application.dto.ArtistDTO;
+import com.artbridge.artist.application.dto.ArtistEngagementDTO;
+import com.artbridge.artist.application.dto.ArtistSummaryDTO;
 import com.artbridge.artist.application.dto.MemberDTO;
 import com.artbridge.artist.presentation.exception.BadRequestAlertException;
+import com.artbridge.artist.presentation.util.CursorUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -26,10 +33,12 @@ import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -48,6 +57,12 @@ public class ArtistResource {
 
     private static final String ENTITY_NAME = "artistArtist";
 
+    private static final int MAX_FEED_SIZE = 100;
+
+    private static final int MAX_ENGAGEMENT_IDS = 100;
+
+    private static final int MAX_BATCH_IDS = 300;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -55,28 +70,37 @@ public class ArtistResource {
 
     private final ArtistRepository artistRepository;
 
-    private final TokenProvider tokenProvider;
+    private final ImageUploadService imageUploadService;
 
-    private final GCSService gcsService;
+    private final ArtistEngagementService artistEngagementService;
 
-    public ArtistResource(ArtistService artistService, ArtistRepository artistRepository, TokenProvider tokenProvider, GCSService gcsService) {
+    public ArtistResource(
+        ArtistService artistService,
+        ArtistRepository artistRepository,
+        ImageUploadService imageUploadService,
+        ArtistEngagementService artistEngagementService
+    ) {
         this.artistService = artistService;
         this.artistRepository = artistRepository;
-        this.tokenProvider = tokenProvider;
-        this.gcsService = gcsService;
+        this.imageUploadService = imageUploadService;
+        this.artistEngagementService = artistEngagementService;
     }
 
     /**
      * {@code POST  /artists} : 아티스트를 생성합니다.
+     * <p>
+     * 아티스트는 이미지 없이 먼저 저장되고, 이미지는 비동기로 업로드된 뒤 imgUrl 에 기록됩니다.
+     * 클라이언트는 Location 의 아티스트를 조회해 업로드 완료 여부를 확인합니다.
      *
      * @param file         이미지 파일 (MultipartFile)
      * @param artistDTOStr 아티스트 정보 (JSON 문자열)
-     * @return 생성된 아티스트의 정보를 담은 ArtistDTO 객체
+     * @return 202 (Accepted) 와 생성된 아티스트의 정보를 담은 ArtistDTO 객체,
+     * 이미지로 판별할 수 없는 파일인 경우 400 (Bad Request), 업로드 단계가 가득 찬 경우 503 (Service Unavailable)
      * @throws URISyntaxException      URI 구문 오류가 발생한 경우
      * @throws JsonProcessingException JSON 처리 오류가 발생한 경우
      */
     @PostMapping("/artists")
-    public ResponseEntity<ArtistDTO> createArtist(@RequestParam("image") MultipartFile file, @RequestParam("artistDTO") String artistDTOStr) throws URISyntaxException, JsonProcessingException {
+    public ResponseEntity<ArtistDTO> createArtist(@RequestParam("image") MultipartFile file, @RequestParam("artistDTO") String artistDTOStr, @AuthenticationPrincipal MemberPrincipal principal) throws URISyntaxException, JsonProcessingException {
         ArtistDTO artistDTO = this.convertToDTO(artistDTOStr);
 
         log.debug("REST request to save Artist : {}", artistDTO);
@@ -84,15 +108,26 @@ public class ArtistResource {
             throw new BadRequestAlertException("A new artist cannot already have an ID", ENTITY_NAME, "idexists");
         }
 
-        String token = this.validateAndGetToken();
-
-        MemberDTO memberDTO = this.createMember(token);
+        MemberDTO memberDTO = this.createMember(principal);
         artistDTO.setMemberDTO(memberDTO);
 
-        this.uploadImage(file, artistDTO);
+        Optional<Path> stagedImage = this.stageImage(file);
+        if (stagedImage.isEmpty()) {
+            return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .headers(HeaderUtil.createFailureAlert(applicationName, true, ENTITY_NAME, "uploadbusy", "Image upload is busy"))
+                .build();
+        }
 
-        ArtistDTO result = artistService.save(artistDTO);
-        return ResponseEntity.created(new URI("/api/artists/" + result.getId())).headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString())).body(result);
+        ArtistDTO result;
+        try {
+            result = artistService.save(artistDTO);
+        } catch (RuntimeException e) {
+            imageUploadService.discard(stagedImage.get());
+            throw e;
+        }
+        imageUploadService.upload(result.getId(), stagedImage.get());
+        return ResponseEntity.accepted().location(new URI("/api/artists/" + result.getId())).headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString())).body(result);
     }
 
     /**
@@ -104,12 +139,12 @@ public class ArtistResource {
      * @throws URISyntaxException URI 구문 예외가 발생할 경우
      */
     @PutMapping("/artists/{id}")
-    public ResponseEntity<ArtistDTO> updateArtist(@PathVariable(value = "id", required = false) final Long id, @RequestBody ArtistDTO artistDTO) throws URISyntaxException {
+    public ResponseEntity<ArtistDTO> updateArtist(@PathVariable(value = "id", required = false) final Long id, @RequestBody ArtistDTO artistDTO, @AuthenticationPrincipal MemberPrincipal principal) throws URISyntaxException {
         log.debug("REST request to update Artist : {}, {}", id, artistDTO);
 
         this.validateId(id, artistDTO);
         Artist artist = this.validateArtistExists(id);
-        this.validateOwnership(artist);
+        this.validateOwnership(artist, principal);
 
         ArtistDTO result = artistService.update(artistDTO);
         return ResponseEntity.ok().headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, artistDTO.getId().toString())).body(result);
@@ -142,7 +177,7 @@ public class ArtistResource {
      *
      * @param id 승인할 Artist의 식별자(ID)
      * @return 승인된 Artist의 정보를 담은 ResponseEntity
-     * @throws BadRequestAlertException Artist 승인 처리 실패 시 발생하는 BadRequestAlertException
+     * @throws BadRequestAlertException Artist 가 없거나 이미지 업로드가 끝나지 않은 경우 (400)
      */
     @PatchMapping(value = "/artists/{id}/authorized/ok")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
@@ -155,7 +190,12 @@ public class ArtistResource {
 
         this.validateArtistExists(id);
 
-        ArtistDTO result = artistService.authorizeOkArtist(id);
+        ArtistDTO result;
+        try {
+            result = artistService.authorizeOkArtist(id);
+        } catch (ArtistImageNotUploadedException e) {
+            throw new BadRequestAlertException("Artist image has not been uploaded", ENTITY_NAME, "imagenotuploaded");
+        }
 
         return ResponseEntity.ok().headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, id.toString())).body(result);
     }
@@ -167,13 +207,71 @@ public class ArtistResource {
      * @return 페이지별로 조회된 아티스트 정보를 담은 ResponseEntity 객체
      */
     @GetMapping("/artists")
-    public ResponseEntity<List<ArtistDTO>> getAllArtists(@ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtistSummaryDTO>> getAllArtists(@ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artists");
-        Page<ArtistDTO> page = artistService.findAllByStatus(pageable);
+        Page<ArtistSummaryDTO> page = artistService.findAllByStatus(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /artists/feed} : 승인된 아티스트를 최신순으로 keyset 페이지네이션하여 조회합니다.
+     * <p>
+     * offset 과 전체 개수를 계산하지 않으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회됩니다.
+     * 다음 페이지가 있으면 {@code X-Next-Cursor} 헤더의 token 을 cursor 로 전달합니다.
+     *
+     * @param cursor 이전 응답의 continuation token, 첫 페이지이면 생략 (String)
+     * @param size   페이지 크기, 최대 {@value #MAX_FEED_SIZE} (int)
+     * @return 조회된 아티스트 정보 목록을 담은 ResponseEntity 객체
+     */
+    @GetMapping("/artists/feed")
+    public ResponseEntity<List<ArtistSummaryDTO>> getArtistFeed(
+        @RequestParam(value = CursorUtil.CURSOR_PARAM, required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get Artist feed : {}", cursor);
+        if (size < 1 || size > MAX_FEED_SIZE) {
+            throw new BadRequestAlertException("Invalid feed size", ENTITY_NAME, "invalidsize");
+        }
+        Slice<ArtistSummaryDTO> slice = artistService.findFeed(CursorUtil.decodeLastId(cursor, ENTITY_NAME), size);
+        String nextCursor = slice.hasNext() ? CursorUtil.encode(slice.getContent().get(slice.getNumberOfElements() - 1).getId()) : null;
+        HttpHeaders headers = CursorUtil.generateCursorHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), nextCursor);
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /artists/batch} : 여러 아티스트 정보를 한 번에 조회합니다.
+     * <p>
+     * 2차 캐시에 있는 아티스트는 캐시에서 읽고, 나머지는 하나의 IN 쿼리로 조회합니다.
+     *
+     * @param ids 조회할 아티스트 ID 목록, 최대 {@value #MAX_BATCH_IDS}개 (List<Long>)
+     * @return 요청한 순서대로 정렬된 아티스트 정보 목록을 담은 ResponseEntity 객체, 존재하지 않는 ID 는 제외됩니다.
+     */
+    @GetMapping("/artists/batch")
+    public ResponseEntity<List<ArtistDTO>> getArtistsById(@RequestParam("ids") List<Long> ids) {
+        log.debug("REST request to get Artists : {}", ids);
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new BadRequestAlertException("Too many artist ids", ENTITY_NAME, "toomanyids");
+        }
+        return ResponseEntity.ok().body(artistService.findAllById(ids));
+    }
+
+    /**
+     * {@code GET  /artists/engagements} : 여러 아티스트의 좋아요 수, 조회수, 댓글 수와 현재 회원의 좋아요 여부를 한 번에 조회합니다.
+     *
+     * @param ids 조회할 아티스트 ID 목록, 최대 {@value #MAX_ENGAGEMENT_IDS}개 (List<Long>)
+     * @return 요청한 순서대로 정렬된 아티스트별 반응 요약 목록을 담은 ResponseEntity 객체
+     */
+    @GetMapping("/artists/engagements")
+    public ResponseEntity<List<ArtistEngagementDTO>> getArtistEngagements(@RequestParam("ids") List<Long> ids, @AuthenticationPrincipal MemberPrincipal principal) {
+        log.debug("REST request to get engagements of Artists : {}", ids);
+        if (ids.size() > MAX_ENGAGEMENT_IDS) {
+            throw new BadRequestAlertException("Too many artist ids", ENTITY_NAME, "toomanyids");
+        }
+        Long memberId = principal == null ? null : principal.getUserId();
+        return ResponseEntity.ok().body(artistEngagementService.findEngagements(ids, memberId));
+    }
+
     /**
      * {@code GET  /artists/:id} : 아티스트 정보를 조회합니다.
      *
@@ -197,9 +295,9 @@ public class ArtistResource {
      */
     @GetMapping("/artists/pending/creates")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtistDTO>> getCreatePendings(@ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtistSummaryDTO>> getCreatePendings(@ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artists");
-        Page<ArtistDTO> page = artistService.findCreatePendings(pageable);
+        Page<ArtistSummaryDTO> page = artistService.findCreatePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -213,9 +311,9 @@ public class ArtistResource {
      */
     @GetMapping("/artists/pending/updates")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtistDTO>> getUpdatePendings(@ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtistSummaryDTO>> getUpdatePendings(@ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artists");
-        Page<ArtistDTO> page = artistService.findUpdatePendings(pageable);
+        Page<ArtistSummaryDTO> page = artistService.findUpdatePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -229,9 +327,9 @@ public class ArtistResource {
      */
     @GetMapping("/artists/pending/deletes")
     @PreAuthorize("hasAuthority(\"" + AuthoritiesConstants.ADMIN + "\")")
-    public ResponseEntity<List<ArtistDTO>> getDeletePendings(@ParameterObject Pageable pageable) {
+    public ResponseEntity<List<ArtistSummaryDTO>> getDeletePendings(@ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Artists");
-        Page<ArtistDTO> page = artistService.findDeletePendings(pageable);
+        Page<ArtistSummaryDTO> page = artistService.findDeletePendings(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
@@ -261,36 +359,21 @@ public class ArtistResource {
     }
 
     /**
-     * 업로드된 이미지 파일을 처리하여 ArtistDTO에 이미지 URL을 설정합니다.
-     *
-     * @param file      업로드된 이미지 파일
-     * @param artistDTO ArtistDTO 객체
-     * @throws BadRequestAlertException 파일 업로드 실패 시 발생하는 예외
-     */
-    private void uploadImage(MultipartFile file, ArtistDTO artistDTO) {
-        log.debug("REST request to upload image file : {}", file);
-        if (!Objects.isNull(file)) {
-            try {
-                String imageUrl = gcsService.uploadImageToGCS(file);
-                artistDTO.setImgUrl(imageUrl);
-            } catch (IOException e) {
-                throw new BadRequestAlertException("File upload failed", ENTITY_NAME, "filereadfailed");
-            }
-        }
-    }
-
-    /**
-     * 현재 사용자로부터 얻은 JWT 토큰을 유효성 검사하고 유효한 토큰을 반환합니다.
+     * 업로드된 이미지 파일을 비동기 업로드 단계에 맡기기 위해 임시 파일로 옮깁니다.
      *
-     * @return 유효한 JWT 토큰
-     * @throws BadRequestAlertException JWT 토큰이 잘못되었거나 존재하지 않는 경우
+     * @param file 업로드된 이미지 파일
+     * @return 임시 파일 경로, 업로드 단계가 가득 찬 경우 empty
+     * @throws BadRequestAlertException 이미지가 아니거나 파일을 읽지 못한 경우 발생하는 예외
      */
-    private String validateAndGetToken() {/*TODO -REFACTOR*/
-        Optional<String> optToken = SecurityUtils.getCurrentUserJWT();
-        if (optToken.isEmpty() || !this.tokenProvider.validateToken(optToken.get())) {
-            throw new BadRequestAlertException("Invalid JWT token", ENTITY_NAME, "invalidtoken");
+    private Optional<Path> stageImage(MultipartFile file) {
+        log.debug("REST request to stage image file : {}", file);
+        try {
+            return imageUploadService.stage(file);
+        } catch (UnsupportedImageFormatException e) {
+            throw new BadRequestAlertException("Unsupported image format", ENTITY_NAME, "unsupportedimage");
+        } catch (IOException e) {
+            throw new BadRequestAlertException("File upload failed", ENTITY_NAME, "filereadfailed");
         }
-        return optToken.get();
     }
 
     /**
@@ -306,15 +389,17 @@ public class ArtistResource {
     }
 
     /**
-     * 주어진 토큰을 사용하여 MemberDTO 객체를 생성합니다.
+     * JWT 필터가 인증한 principal 로 MemberDTO 객체를 생성합니다.
      *
-     * @param token JWT 토큰
+     * @param principal 현재 회원의 principal, 인증되지 않은 요청이면 null
      * @return MemberDTO 객체
+     * @throws BadRequestAlertException JWT 토큰이 잘못되었거나 존재하지 않는 경우
      */
-    private MemberDTO createMember(String token) {
-        Authentication authentication = this.tokenProvider.getAuthentication(token);
-        Long userId = this.tokenProvider.getUserIdFromToken(token);
-        return new MemberDTO(userId, authentication.getName());
+    private MemberDTO createMember(MemberPrincipal principal) {
+        if (principal == null) {
+            throw new BadRequestAlertException("Invalid JWT token", ENTITY_NAME, "invalidtoken");
+        }
+        return new MemberDTO(principal.getUserId(), principal.getUsername());
     }
 
     /**
@@ -347,12 +432,12 @@ public class ArtistResource {
     /**
      * 주어진 Artist의 소유권을 현재 사용자의 소유권과 비교하여 검증합니다.
      *
-     * @param artist 소유권을 검증할 Artist 객체
+     * @param artist    소유권을 검증할 Artist 객체
+     * @param principal 현재 회원의 principal
      * @throws BadRequestAlertException 현재 사용자가 Artists의 소유자가 아닌 경우 발생합니다.
      */
-    private void validateOwnership(Artist artist) {
-        String token = this.validateAndGetToken();
-        MemberDTO memberDTO = this.createMember(token);
+    private void validateOwnership(Artist artist, MemberPrincipal principal) {
+        MemberDTO memberDTO = this.createMember(principal);
 
         if (!artist.getCreatedMember().getId().equals(memberDTO.getId())) {
             throw new BadRequestAlertException("You are not the owner of this artist", ENTITY_NAME, "notowner");
@@ -2,16 +2,15 @@ package com.artbridge.artist.presentation.rest;
 
 import com.artbridge.artist.domain.model.Comment;
 import com.artbridge.artist.presentation.exception.BadRequestAlertException;
+import com.artbridge.artist.presentation.util.CursorUtil;
 import com.artbridge.artist.infrastructure.repository.CommentRepository;
-import com.artbridge.artist.infrastructure.security.SecurityUtils;
-import com.artbridge.artist.infrastructure.security.jwt.TokenProvider;
+import com.artbridge.artist.infrastructure.security.MemberPrincipal;
 import com.artbridge.artist.application.service.CommentService;
 import com.artbridge.artist.application.dto.CommentDTO;
 import com.artbridge.artist.application.dto.MemberDTO;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -21,9 +20,10 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
@@ -41,18 +41,18 @@ public class CommentResource {
 
     private static final String ENTITY_NAME = "artistComment";
 
+    private static final int MAX_STREAM_SIZE = 100;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final CommentService commentService;
 
     private final CommentRepository commentRepository;
-    private final TokenProvider tokenProvider;
 
-    public CommentResource(CommentService commentService, CommentRepository commentRepository, TokenProvider tokenProvider) {
+    public CommentResource(CommentService commentService, CommentRepository commentRepository) {
         this.commentService = commentService;
         this.commentRepository = commentRepository;
-        this.tokenProvider = tokenProvider;
     }
 
     /**
@@ -65,14 +65,13 @@ public class CommentResource {
      * @throws BadRequestAlertException 유효하지 않은 ID가 이미 있는 경우 발생하는 예외
      */
     @PostMapping("/comments")
-    public ResponseEntity<CommentDTO> createComment(@RequestBody CommentDTO commentDTO) throws URISyntaxException {
+    public ResponseEntity<CommentDTO> createComment(@RequestBody CommentDTO commentDTO, @AuthenticationPrincipal MemberPrincipal principal) throws URISyntaxException {
         log.debug("REST request to save Comment : {}", commentDTO);
         if (commentDTO.getId() != null) {
             throw new BadRequestAlertException("A new comment cannot already have an ID", ENTITY_NAME, "idexists");
         }
 
-        String token = this.validateAndGetToken();
-        MemberDTO memberDTO = this.createMember(token);
+        MemberDTO memberDTO = this.createMember(principal);
         commentDTO.setMemberDTO(memberDTO);
 
         CommentDTO result = commentService.save(commentDTO);
@@ -173,15 +172,40 @@ public class CommentResource {
     public ResponseEntity<List<CommentDTO>> getAllArtistComments(@RequestParam(value = "artistId") Long artistId, @org.springdoc.api.annotations.ParameterObject Pageable pageable) {
         log.debug("REST request to get a page of Comments");
 
-        if (!commentRepository.existsByArtist_Id(artistId)) {
-            return ResponseEntity.ok().body(new ArrayList<>());
-        }
-
         Page<CommentDTO> page = commentService.findByArtistId(pageable, artistId);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
         return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
+    /**
+     * {@code GET  /comments/stream} : 특정 아티스트의 댓글을 최신순으로 keyset 페이지네이션하여 가져옵니다.
+     * <p>
+     * 한 번의 쿼리로 조회하며 전체 개수와 존재 여부를 따로 조회하지 않습니다. 댓글이 없으면 빈 목록을 반환합니다.
+     * 다음 페이지가 있으면 {@code X-Next-Cursor} 헤더의 token 을 cursor 로 전달합니다.
+     *
+     * @param artistId 아티스트의 ID (Long)
+     * @param cursor   이전 응답의 continuation token, 첫 페이지이면 생략 (String)
+     * @param size     페이지 크기, 최대 {@value #MAX_STREAM_SIZE} (int)
+     * @return ResponseEntity<List < CommentDTO>> : 조회된 댓글 목록을 반환합니다.
+     */
+    @GetMapping("/comments/stream")
+    public ResponseEntity<List<CommentDTO>> getArtistCommentStream(
+        @RequestParam(value = "artistId") Long artistId,
+        @RequestParam(value = CursorUtil.CURSOR_PARAM, required = false) String cursor,
+        @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        log.debug("REST request to get Comment stream of Artist {} : {}", artistId, cursor);
+        if (size < 1 || size > MAX_STREAM_SIZE) {
+            throw new BadRequestAlertException("Invalid stream size", ENTITY_NAME, "invalidsize");
+        }
+        Long lastId = CursorUtil.decodeLastId(cursor, ENTITY_NAME);
+
+        Slice<CommentDTO> slice = commentService.findStreamByArtistId(artistId, lastId, size);
+        String nextCursor = slice.hasNext() ? CursorUtil.encode(slice.getContent().get(slice.getNumberOfElements() - 1).getId()) : null;
+        HttpHeaders headers = CursorUtil.generateCursorHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), nextCursor);
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
     /**
      * {@code DELETE  /comments/:id} : delete the "id" comment.
      *
@@ -197,28 +221,16 @@ public class CommentResource {
 
 
     /**
-     * 현재 사용자로부터 얻은 JWT 토큰을 유효성 검사하고 유효한 토큰을 반환합니다.
+     * JWT 필터가 인증한 principal 로 MemberDTO 객체를 생성합니다.
      *
-     * @return 유효한 JWT 토큰
+     * @param principal 현재 회원의 principal, 인증되지 않은 요청이면 null
+     * @return MemberDTO 객체
      * @throws BadRequestAlertException JWT 토큰이 잘못되었거나 존재하지 않는 경우
      */
-    private String validateAndGetToken() { /*TODO -REFACTOR*/
-        Optional<String> optToken = SecurityUtils.getCurrentUserJWT();
-        if (optToken.isEmpty() || !this.tokenProvider.validateToken(optToken.get())) {
+    private MemberDTO createMember(MemberPrincipal principal) {
+        if (principal == null) {
             throw new BadRequestAlertException("Invalid JWT token", ENTITY_NAME, "invalidtoken");
         }
-        return optToken.get();
-    }
-
-    /**
-     * 주어진 토큰을 사용하여 MemberDTO 객체를 생성합니다.
-     *
-     * @param token JWT 토큰
-     * @return MemberDTO 객체
-     */
-    private MemberDTO createMember(String token) { /*TODO -REFACTOR*/
-        Authentication authentication = this.tokenProvider.getAuthentication(token);
-        Long userId = this.tokenProvider.getUserIdFromToken(token);
-        return new MemberDTO(userId, authentication.getName());
+        return new MemberDTO(principal.getUserId(), principal.getUsername());
     }
 }
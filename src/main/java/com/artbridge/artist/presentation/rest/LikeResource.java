@@ -3,10 +3,10 @@ package com.artbridge.artist.presentation.rest;
 import com.artbridge.artist.domain.model.Like;
 import com.artbridge.artist.presentation.exception.BadRequestAlertException;
 import com.artbridge.artist.infrastructure.repository.LikeRepository;
-import com.artbridge.artist.infrastructure.security.SecurityUtils;
-import com.artbridge.artist.infrastructure.security.jwt.TokenProvider;
+import com.artbridge.artist.infrastructure.security.MemberPrincipal;
 import com.artbridge.artist.application.service.LikeService;
 import com.artbridge.artist.application.dto.LikeDTO;
+import com.artbridge.artist.application.dto.LikeStateDTO;
 import com.artbridge.artist.application.dto.MemberDTO;
 
 import java.net.URI;
@@ -22,7 +22,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
@@ -46,12 +46,10 @@ public class LikeResource {
     private final LikeService likeService;
 
     private final LikeRepository likeRepository;
-    private final TokenProvider tokenProvider;
 
-    public LikeResource(LikeService likeService, LikeRepository likeRepository, TokenProvider tokenProvider) {
+    public LikeResource(LikeService likeService, LikeRepository likeRepository) {
         this.likeService = likeService;
         this.likeRepository = likeRepository;
-        this.tokenProvider = tokenProvider;
     }
 
     /**
@@ -62,15 +60,13 @@ public class LikeResource {
      * @throws URISyntaxException URI 문법이 잘못된 경우 발생하는 예외
      */
     @PostMapping("/likes")
-    public ResponseEntity<LikeDTO> createLike(@RequestBody LikeDTO likeDTO) throws URISyntaxException {
+    public ResponseEntity<LikeDTO> createLike(@RequestBody LikeDTO likeDTO, @AuthenticationPrincipal MemberPrincipal principal) throws URISyntaxException {
         log.debug("REST request to save Like : {}", likeDTO);
         if (likeDTO.getId() != null) {
             throw new BadRequestAlertException("A new like cannot already have an ID", ENTITY_NAME, "idexists");
         }
 
-        String token = this.validateAndGetToken();
-
-        MemberDTO memberDTO = this.createMember(token);
+        MemberDTO memberDTO = this.createMember(principal);
 
         likeDTO.setMemberDTO(memberDTO);
 
@@ -179,6 +175,24 @@ public class LikeResource {
     }
 
 
+    /**
+     * {@code PUT  /likes/artists/:artistId} : 현재 회원의 좋아요 상태를 liked 값으로 맞춥니다.
+     *
+     * 좋아요와 취소 모두 한 번의 statement 로 처리되며, 같은 요청을 반복하거나 동시에 보내도 좋아요는 하나만 남습니다.
+     *
+     * @param artistId 아티스트 ID (Long)
+     * @param liked    true 이면 좋아요, false 이면 좋아요 취소 (기본값 true)
+     * @return 상태 코드 200 (OK)와 변경 후 좋아요 상태 (LikeStateDTO), 아티스트가 없으면 상태 코드 404 (Not Found)
+     */
+    @PutMapping("/likes/artists/{artistId}")
+    public ResponseEntity<LikeStateDTO> setLike(@PathVariable Long artistId, @RequestParam(defaultValue = "true") boolean liked, @AuthenticationPrincipal MemberPrincipal principal) {
+        log.debug("REST request to set Like of Artist {} : {}", artistId, liked);
+        MemberDTO memberDTO = this.createMember(principal);
+
+        boolean changed = likeService.setLiked(artistId, memberDTO, liked);
+        return ResponseEntity.ok().body(new LikeStateDTO(artistId, liked, changed, likeService.countByArtistId(artistId)));
+    }
+
     /**
      * {@code DELETE  /likes/:id} : "id"에 해당하는 좋아요를 삭제합니다.
      *
@@ -186,10 +200,9 @@ public class LikeResource {
      * @return {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/likes/{id}")
-    public ResponseEntity<Void> deleteLike(@PathVariable(value = "id") Long artistId) {
+    public ResponseEntity<Void> deleteLike(@PathVariable(value = "id") Long artistId, @AuthenticationPrincipal MemberPrincipal principal) {
         log.debug("REST request to delete Like : {}", artistId);
-        String token = this.validateAndGetToken();
-        MemberDTO memberDTO = this.createMember(token);
+        MemberDTO memberDTO = this.createMember(principal);
 
         likeService.delete(artistId, memberDTO.getId());
         return ResponseEntity
@@ -198,34 +211,17 @@ public class LikeResource {
             .build();
     }
 
-
-
-
-
     /**
-     * 현재 사용자로부터 얻은 JWT 토큰을 유효성 검사하고 유효한 토큰을 반환합니다.
+     * JWT 필터가 인증한 principal 로 MemberDTO 객체를 생성합니다.
      *
-     * @return 유효한 JWT 토큰
+     * @param principal 현재 회원의 principal, 인증되지 않은 요청이면 null
+     * @return MemberDTO 객체
      * @throws BadRequestAlertException JWT 토큰이 잘못되었거나 존재하지 않는 경우
      */
-    private String validateAndGetToken() { /*TODO -REFACTOR*/
-        Optional<String> optToken = SecurityUtils.getCurrentUserJWT();
-        if (optToken.isEmpty() || !this.tokenProvider.validateToken(optToken.get())) {
+    private MemberDTO createMember(MemberPrincipal principal) {
+        if (principal == null) {
             throw new BadRequestAlertException("Invalid JWT token", ENTITY_NAME, "invalidtoken");
         }
-        return optToken.get();
-    }
-
-
-    /**
-     * 주어진 토큰을 사용하여 MemberDTO 객체를 생성합니다.
-     *
-     * @param token JWT 토큰
-     * @return MemberDTO 객체
-     */
-    private MemberDTO createMember(String token) { /*TODO -REFACTOR*/
-        Authentication authentication = this.tokenProvider.getAuthentication(token);
-        Long userId = this.tokenProvider.getUserIdFromToken(token);
-        return new MemberDTO(userId,  authentication.getName());
+        return new MemberDTO(principal.getUserId(), principal.getUsername());
     }
 }
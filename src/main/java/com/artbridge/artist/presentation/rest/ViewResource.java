@@ -3,10 +3,10 @@ package com.artbridge.artist.presentation.rest;
 import com.artbridge.artist.domain.model.View;
 import com.artbridge.artist.presentation.exception.BadRequestAlertException;
 import com.artbridge.artist.infrastructure.repository.ViewRepository;
+import com.artbridge.artist.application.service.ViewIngestionService;
 import com.artbridge.artist.application.service.ViewService;
 import com.artbridge.artist.application.dto.ViewDTO;
 
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
@@ -17,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -42,29 +43,36 @@ public class ViewResource {
 
     private final ViewRepository viewRepository;
 
-    public ViewResource(ViewService viewService, ViewRepository viewRepository) {
+    private final ViewIngestionService viewIngestionService;
+
+    public ViewResource(ViewService viewService, ViewRepository viewRepository, ViewIngestionService viewIngestionService) {
         this.viewService = viewService;
         this.viewRepository = viewRepository;
+        this.viewIngestionService = viewIngestionService;
     }
 
     /**
-     * {@code POST  /views} : Create a new view.
+     * {@code POST  /views} : 조회 이벤트를 적재 버퍼에 추가합니다.
      *
-     * @param viewDTO the viewDTO to create.
-     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new viewDTO, or with status {@code 400 (Bad Request)} if the view has already an ID.
-     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     * 이벤트는 백그라운드에서 batch 로 저장되므로 생성된 ID 는 반환하지 않습니다.
+     *
+     * @param viewDTO 저장할 조회 정보 (ViewDTO)
+     * @return 상태 코드 {@code 202 (Accepted)}, 버퍼가 가득 찬 경우 {@code 503 (Service Unavailable)},
+     * 이미 ID 가 있는 경우 {@code 400 (Bad Request)} 를 담은 ResponseEntity
      */
     @PostMapping("/views")
-    public ResponseEntity<ViewDTO> createView(@RequestBody ViewDTO viewDTO) throws URISyntaxException {
+    public ResponseEntity<Void> createView(@RequestBody ViewDTO viewDTO) {
         log.debug("REST request to save View : {}", viewDTO);
         if (viewDTO.getId() != null) {
             throw new BadRequestAlertException("A new view cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        ViewDTO result = viewService.save(viewDTO);
-        return ResponseEntity
-            .created(new URI("/api/views/" + result.getId()))
-            .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, result.getId().toString()))
-            .body(result);
+        if (!viewIngestionService.offer(viewDTO)) {
+            return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .headers(HeaderUtil.createFailureAlert(applicationName, true, ENTITY_NAME, "bufferfull", "View ingestion buffer is full"))
+                .build();
+        }
+        return ResponseEntity.accepted().build();
     }
 
     /**
@@ -0,0 +1,79 @@
+package com.artbridge.artist.presentation.util;
+
+import com.artbridge.artist.presentation.exception.BadRequestAlertException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Keyset(seek) 페이지네이션에 사용하는 continuation token 유틸리티.
+ * <p>
+ * token 은 마지막으로 반환한 row 의 id 를 base64url 로 감싼 값으로, 클라이언트는 내용을 해석하지 않고 그대로 돌려보냅니다.
+ * 다음 페이지가 있으면 {@code X-Next-Cursor} 와 {@code Link: rel="next"} 헤더로 전달합니다.
+ */
+public final class CursorUtil {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    public static final String CURSOR_PARAM = "cursor";
+
+    private CursorUtil() {}
+
+    /**
+     * 마지막 row 의 id 를 continuation token 으로 만듭니다.
+     */
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(lastId).array());
+    }
+
+    /**
+     * continuation token 에서 마지막 row 의 id 를 꺼냅니다.
+     *
+     * @return token 이 없으면 empty
+     * @throws IllegalArgumentException token 형식이 올바르지 않은 경우
+     */
+    public static Optional<Long> decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != Long.BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return Optional.of(ByteBuffer.wrap(bytes).getLong());
+    }
+
+    /**
+     * 요청으로 받은 continuation token 에서 마지막 row 의 id 를 꺼냅니다.
+     *
+     * @param cursor     continuation token, 없으면 null
+     * @param entityName 오류 응답에 담을 엔티티 이름
+     * @return 마지막 row 의 id, token 이 없으면 null
+     * @throws BadRequestAlertException token 형식이 올바르지 않은 경우 (400)
+     */
+    public static Long decodeLastId(String cursor, String entityName) {
+        try {
+            return decode(cursor).orElse(null);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid cursor", entityName, "invalidcursor");
+        }
+    }
+
+    /**
+     * 다음 페이지의 continuation token 헤더를 만듭니다. 다음 페이지가 없으면 빈 헤더를 반환합니다.
+     *
+     * @param uriBuilder 현재 요청의 URI builder
+     * @param nextCursor 다음 페이지의 token, 없으면 null
+     */
+    public static HttpHeaders generateCursorHttpHeaders(UriComponentsBuilder uriBuilder, String nextCursor) {
+        HttpHeaders headers = new HttpHeaders();
+        if (nextCursor != null) {
+            headers.add(NEXT_CURSOR_HEADER, nextCursor);
+            String next = uriBuilder.replaceQueryParam(CURSOR_PARAM, nextCursor).toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}